@@ -0,0 +1,84 @@
+package com.ssafy.wtd.backend.client;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공공데이터 EV 충전기 API 호출 지표 (애플리케이션 기동 이후 누적)
+ * - 지연 시간 / 재시도 / rate limit 대기 / 실패 응답 코드
+ */
+@Component
+public class ApiCallMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder latencyTotalMs = new LongAdder();
+    private final AtomicLong latencyMaxMs = new AtomicLong();
+
+    // rate limiter 에 의해 대기했거나 거절된 횟수
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder throttledWaitMs = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    // 실패 응답 코드별 횟수 (I/O 오류는 0)
+    private final Map<Integer, LongAdder> failuresByStatus = new ConcurrentHashMap<>();
+
+    void success(long latencyMs) {
+        requests.increment();
+        successes.increment();
+        latency(latencyMs);
+    }
+
+    void failure(long latencyMs, int status) {
+        requests.increment();
+        failures.increment();
+        latency(latencyMs);
+        failuresByStatus.computeIfAbsent(status, k -> new LongAdder()).increment();
+    }
+
+    void retry() {
+        retries.increment();
+    }
+
+    void throttled(long waitMs) {
+        throttled.increment();
+        throttledWaitMs.add(waitMs);
+    }
+
+    public void rejected() {
+        rejected.increment();
+    }
+
+    private void latency(long latencyMs) {
+        latencyTotalMs.add(latencyMs);
+        latencyMaxMs.accumulateAndGet(latencyMs, Math::max);
+    }
+
+    public long getRequests() { return requests.sum(); }
+    public long getSuccesses() { return successes.sum(); }
+    public long getFailures() { return failures.sum(); }
+    public long getRetries() { return retries.sum(); }
+    public long getThrottled() { return throttled.sum(); }
+    public long getThrottledWaitMs() { return throttledWaitMs.sum(); }
+    public long getRejected() { return rejected.sum(); }
+    public long getLatencyMaxMs() { return latencyMaxMs.get(); }
+
+    public double getLatencyAvgMs() {
+        long count = requests.sum();
+        return count == 0 ? 0 : (double) latencyTotalMs.sum() / count;
+    }
+
+    public Map<Integer, Long> getFailuresByStatus() {
+        Map<Integer, Long> result = new TreeMap<>();
+        failuresByStatus.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+}
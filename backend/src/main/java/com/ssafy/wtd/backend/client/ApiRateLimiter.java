@@ -0,0 +1,81 @@
+package com.ssafy.wtd.backend.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공공데이터 EV 충전기 API 호출용 token bucket
+ * - 초당 permits-per-second 개씩 채워지고 최대 burst 개까지 쌓인다
+ * - EnvEvChargerClient 의 모든 호출과 관리자 수동 동기화 요청이 같은 bucket 을 공유
+ * - 대기 시간은 lock 안에서 예약(token 을 음수로 차감)만 하고 sleep 은 lock 밖에서 수행
+ */
+@Component
+public class ApiRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double burst;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public ApiRateLimiter(
+            @Value("${ev.charger.http.rate-limit-per-second:10}") double permitsPerSecond,
+            @Value("${ev.charger.http.rate-limit-burst:20}") int burst
+    ) {
+        this.permitsPerSecond = Math.max(permitsPerSecond, 0.1);
+        this.burst = Math.max(burst, 1);
+        this.tokens = this.burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 즉시 사용 가능한 token 이 있을 때만 1개 차감
+     */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * token 1개를 얻을 때까지 최대 timeoutMs 대기
+     *
+     * @return 실제 대기한 시간(ms), timeout 안에 얻을 수 없으면 -1
+     */
+    public long acquire(long timeoutMs) throws InterruptedException {
+        long waitNanos = reserve(TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+        if (waitNanos < 0) {
+            return -1;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+    }
+
+    public synchronized double getAvailableTokens() {
+        refill();
+        return Math.max(tokens, 0);
+    }
+
+    private synchronized long reserve(long timeoutNanos) {
+        refill();
+        long waitNanos = tokens >= 1 ? 0 : (long) ((1 - tokens) / permitsPerSecond * 1_000_000_000L);
+        if (waitNanos > timeoutNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+}
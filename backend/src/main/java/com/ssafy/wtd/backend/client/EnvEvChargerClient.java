@@ -1,33 +1,76 @@
 package com.ssafy.wtd.backend.client;
 
-import com.ssafy.wtd.backend.dto.external.EnvEvChargerRes;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.wtd.backend.dto.external.EnvEvChargerItem;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class EnvEvChargerClient {
 
         private static final String BASE_URL = "https://apis.data.go.kr/B552584/EvCharger/getChargerInfo";
+        private static final String STATUS_URL = "https://apis.data.go.kr/B552584/EvCharger/getChargerStatus";
+
+        // getChargerStatus 의 period(분) 허용 범위
+        public static final int MAX_STATUS_PERIOD_MIN = 10;
 
         @Value("${ev.charger.key}")
         private String serviceKey;
 
+        // 429 / 5xx / I/O 오류 시 재시도 횟수 (최초 호출 제외)
+        @Value("${ev.charger.http.max-retries:3}")
+        private int maxRetries;
+
+        // 재시도 대기 = random(0, min(backoff-max, backoff-base * 2^attempt))
+        @Value("${ev.charger.http.backoff-base-ms:500}")
+        private long backoffBaseMs;
+
+        @Value("${ev.charger.http.backoff-max-ms:8000}")
+        private long backoffMaxMs;
+
+        // rate limiter 에서 token 을 기다리는 최대 시간
+        @Value("${ev.charger.http.acquire-timeout-ms:30000}")
+        private long acquireTimeoutMs;
+
         private final RestTemplate restTemplate;
+        private final ObjectMapper objectMapper;
+        private final ApiRateLimiter rateLimiter;
+        private final ApiCallMetrics metrics;
 
         /**
          * 환경부 EV 충전기 OpenAPI 호출
+         * 응답 본문을 버퍼링하지 않고 소켓 스트림에서 바로 파싱해 chunkSize 개씩 handler 로 넘긴다
          *
          * @param pageNo    페이지 번호 (1부터)
-         * @param numOfRows 페이지당 개수 (권장: 1000)
+         * @param numOfRows 페이지당 개수 (최대 9999)
          * @param zcode     시도 코드 (예: 11 = 서울, null 가능)
+         * @param chunkSize handler 1회 호출당 item 수
+         * @param handler   파싱된 item chunk 소비자 (호출 스레드에서 실행)
+         * @return 응답의 totalCount
          */
-        public EnvEvChargerRes fetch(int pageNo, int numOfRows, String zcode) {
+        public int fetch(int pageNo, int numOfRows, String zcode, int chunkSize, Consumer<List<EnvEvChargerItem>> handler) {
 
                 UriComponentsBuilder builder = UriComponentsBuilder
                                 .fromUriString(BASE_URL)
@@ -45,21 +88,197 @@ public class EnvEvChargerClient {
                                 .build()
                                 .toUriString();
 
-                // return restTemplate.getForObject(url, EnvEvChargerRes.class);
+                return stream(url, chunkSize, handler);
+        }
+
+        /**
+         * 환경부 EV 충전기 상태 변경분 조회 (최근 period 분 이내 상태가 갱신된 충전기만)
+         * 응답 item 에는 statId / chgerId / stat / statUpdDt 만 채워진다
+         *
+         * @param pageNo    페이지 번호 (1부터)
+         * @param numOfRows 페이지당 개수
+         * @param zcode     시도 코드
+         * @param period    조회 범위 (분, 1 ~ 10)
+         * @param chunkSize handler 1회 호출당 item 수
+         * @param handler   파싱된 item chunk 소비자 (호출 스레드에서 실행)
+         * @return 응답의 totalCount
+         */
+        public int fetchStatus(int pageNo, int numOfRows, String zcode, int period,
+                        int chunkSize, Consumer<List<EnvEvChargerItem>> handler) {
+
+                UriComponentsBuilder builder = UriComponentsBuilder
+                                .fromUriString(STATUS_URL)
+                                .queryParam("serviceKey", serviceKey)
+                                .queryParam("pageNo", pageNo)
+                                .queryParam("numOfRows", numOfRows)
+                                .queryParam("period", Math.max(1, Math.min(period, MAX_STATUS_PERIOD_MIN)))
+                                .queryParam("dataType", "JSON");
+
+                if (zcode != null && !zcode.isBlank()) {
+                        builder.queryParam("zcode", zcode);
+                }
+
+                String url = builder
+                                .build()
+                                .toUriString();
+
+                return stream(url, chunkSize, handler);
+        }
+
+        /**
+         * rate limiter → 호출 → 실패 시 jittered exponential backoff 후 재시도
+         * 이미 handler 로 넘긴 item 이 있으면 중복 적재를 막기 위해 재시도하지 않는다
+         */
+        private int stream(String url, int chunkSize, Consumer<List<EnvEvChargerItem>> handler) {
+                for (int attempt = 0; ; attempt++) {
+                        acquirePermit();
+
+                        AtomicBoolean emitted = new AtomicBoolean(false);
+                        Consumer<List<EnvEvChargerItem>> tracking = chunk -> {
+                                emitted.set(true);
+                                handler.accept(chunk);
+                        };
+
+                        long start = System.nanoTime();
+                        long retryAfterMs = -1;
+                        try {
+                                Integer totalCount = restTemplate.execute(url, HttpMethod.GET, null, response -> {
+                                        try (JsonParser parser = objectMapper.createParser(response.getBody())) {
+                                                return readPage(parser, Math.max(chunkSize, 1), tracking);
+                                        }
+                                });
+                                metrics.success(elapsedMs(start));
+                                return totalCount == null ? 0 : totalCount;
 
-                // 디버깅용 임시 코드
-                // ✅ 1단계: RAW 응답 확인
-                String raw = restTemplate.getForObject(url, String.class);
-                System.out.println("===== RAW API RESPONSE =====");
-                System.out.println(raw);
+                        } catch (HttpStatusCodeException e) {
+                                metrics.failure(elapsedMs(start), e.getStatusCode().value());
+                                if (!isRetryable(e.getStatusCode()) || attempt >= maxRetries) {
+                                        throw e;
+                                }
+                                retryAfterMs = retryAfterMs(e.getResponseHeaders());
 
-                // ✅ 2단계: DTO 매핑 결과 확인
-                EnvEvChargerRes res = restTemplate.getForObject(url, EnvEvChargerRes.class);
-                System.out.println("===== MAPPED ITEMS SIZE =====");
-                System.out.println(
-                                res == null ? "res=null"
-                                                : (res.getItems() == null ? "items=null" : res.getItems().size()));
+                        } catch (ResourceAccessException e) {
+                                // 연결 / read timeout, 연결 끊김, 본문 파싱 실패
+                                metrics.failure(elapsedMs(start), 0);
+                                if (emitted.get() || attempt >= maxRetries) {
+                                        throw e;
+                                }
+                        }
 
-                return res;
+                        metrics.retry();
+                        long delayMs = retryAfterMs >= 0 ? Math.min(retryAfterMs, backoffMaxMs) : backoff(attempt);
+                        log.debug("[EV API] retry {}/{} in {}ms", attempt + 1, maxRetries, delayMs);
+                        sleep(delayMs);
+                }
+        }
+
+        private void acquirePermit() {
+                try {
+                        long waitedMs = rateLimiter.acquire(acquireTimeoutMs);
+                        if (waitedMs < 0) {
+                                metrics.rejected();
+                                throw new IllegalStateException("EV API rate limit: no permit within " + acquireTimeoutMs + "ms");
+                        }
+                        if (waitedMs > 0) {
+                                metrics.throttled(waitedMs);
+                        }
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for EV API permit", e);
+                }
+        }
+
+        private static boolean isRetryable(HttpStatusCode status) {
+                return status.value() == 429 || status.is5xxServerError();
+        }
+
+        /**
+         * Retry-After 헤더 (초 단위만 지원, 없으면 -1)
+         */
+        private static long retryAfterMs(HttpHeaders headers) {
+                String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+                if (value == null) {
+                        return -1;
+                }
+                try {
+                        return Long.parseLong(value.trim()) * 1000;
+                } catch (NumberFormatException e) {
+                        return -1;
+                }
+        }
+
+        private long backoff(int attempt) {
+                long cap = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempt, 20));
+                return ThreadLocalRandom.current().nextLong(cap + 1);
+        }
+
+        private static void sleep(long delayMs) {
+                try {
+                        Thread.sleep(delayMs);
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while backing off EV API retry", e);
+                }
+        }
+
+        private static long elapsedMs(long startNanos) {
+                return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+
+        /**
+         * { "totalCount": n, "items": { "item": [ {...}, ... ] }, ... } 구조를 토큰 단위로 읽는다
+         * (필드 순서에 의존하지 않으며, 모르는 필드는 건너뜀, item 이 1건이면 배열이 아닌 object 도 허용)
+         */
+        int readPage(JsonParser parser, int chunkSize, Consumer<List<EnvEvChargerItem>> handler) throws IOException {
+                int totalCount = 0;
+                List<EnvEvChargerItem> chunk = new ArrayList<>(chunkSize);
+
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        return 0;
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.currentName();
+                        JsonToken value = parser.nextToken();
+
+                        if ("totalCount".equals(field)) {
+                                totalCount = parser.getValueAsInt();
+                        } else if ("items".equals(field) && value == JsonToken.START_OBJECT) {
+                                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                        String itemsField = parser.currentName();
+                                        JsonToken itemsValue = parser.nextToken();
+
+                                        if (!"item".equals(itemsField)) {
+                                                parser.skipChildren();
+                                                continue;
+                                        }
+
+                                        // 결과가 1건이면 배열 없이 object 하나로 내려오는 경우가 있음
+                                        if (itemsValue == JsonToken.START_OBJECT) {
+                                                chunk.add(objectMapper.readValue(parser, EnvEvChargerItem.class));
+                                                continue;
+                                        }
+                                        if (itemsValue != JsonToken.START_ARRAY) {
+                                                parser.skipChildren();
+                                                continue;
+                                        }
+
+                                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                                                chunk.add(objectMapper.readValue(parser, EnvEvChargerItem.class));
+                                                if (chunk.size() >= chunkSize) {
+                                                        handler.accept(chunk);
+                                                        chunk = new ArrayList<>(chunkSize);
+                                                }
+                                        }
+                                }
+                        } else {
+                                parser.skipChildren();
+                        }
+                }
+
+                if (!chunk.isEmpty()) {
+                        handler.accept(chunk);
+                }
+                return totalCount;
         }
 }
@@ -1,16 +1,50 @@
 package com.ssafy.wtd.backend.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+/**
+ * 외부 API 별 RestTemplate
+ * - 호출 대상마다 커넥션 풀 / timeout 을 따로 두어, 동기화 중 공공데이터 API 가 풀을 다 써도
+ *   영수증 OCR / 날씨 호출이 커넥션을 기다리다 실패하지 않게 함
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    public static final String OCR = "ocrRestTemplate";
+    public static final String WEATHER = "weatherRestTemplate";
+
+    /**
+     * 공공데이터 API 호출용 RestTemplate (이름 없이 주입받는 기본 bean)
+     * - 커넥션 풀 + keep-alive 로 매 페이지마다 TLS handshake 를 반복하지 않음
+     * - connect / read timeout 으로 느린 페이지 하나가 동기화 전체를 붙잡지 않게 함
+     * - HttpClient 5 는 Accept-Encoding: gzip 요청과 응답 압축 해제를 기본으로 처리
+     * - 재시도는 EnvEvChargerClient 에서 backoff 와 함께 처리하므로 HttpClient 자체 재시도는 끔
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+    @Primary
+    public RestTemplate restTemplate(
+            @Value("${ev.charger.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${ev.charger.http.read-timeout-ms:15000}") long readTimeoutMs,
+            // 커넥션 풀이 가득 찼을 때 빈 커넥션을 기다리는 시간
+            @Value("${ev.charger.http.pool-timeout-ms:5000}") long poolTimeoutMs,
+            // 동시 fetch 스레드 수 이상으로 유지해야 대기가 생기지 않음
+            @Value("${ev.charger.http.max-connections:20}") int maxConnections) {
+        RestTemplate restTemplate = pooled(connectTimeoutMs, readTimeoutMs, poolTimeoutMs, maxConnections);
 
         // 공공데이터 API의 인증키(==) 문제를 해결하기 위해
         // RestTemplate이 URL을 자동으로 인코딩하는 것을 방지합니다.
@@ -20,4 +54,54 @@ public class RestTemplateConfig {
 
         return restTemplate;
     }
+
+    /**
+     * Clova OCR 호출용 (영수증 이미지 업로드라 read timeout 을 길게)
+     */
+    @Bean(OCR)
+    public RestTemplate ocrRestTemplate(
+            @Value("${clova.ocr.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${clova.ocr.http.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${clova.ocr.http.pool-timeout-ms:2000}") long poolTimeoutMs,
+            @Value("${clova.ocr.http.max-connections:8}") int maxConnections) {
+        return pooled(connectTimeoutMs, readTimeoutMs, poolTimeoutMs, maxConnections);
+    }
+
+    /**
+     * OpenWeather 호출용 (추천 요청 경로라 timeout 을 짧게)
+     */
+    @Bean(WEATHER)
+    public RestTemplate weatherRestTemplate(
+            @Value("${weather.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${weather.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${weather.http.pool-timeout-ms:1000}") long poolTimeoutMs,
+            @Value("${weather.http.max-connections:10}") int maxConnections) {
+        return pooled(connectTimeoutMs, readTimeoutMs, poolTimeoutMs, maxConnections);
+    }
+
+    private static RestTemplate pooled(long connectTimeoutMs, long readTimeoutMs, long poolTimeoutMs, int maxConnections) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .disableAutomaticRetries()
+                .build();
+
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    }
 }
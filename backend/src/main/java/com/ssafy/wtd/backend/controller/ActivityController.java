@@ -4,10 +4,13 @@ import com.ssafy.wtd.backend.dto.activity.ActivityRecommendReq;
 import com.ssafy.wtd.backend.dto.activity.ActivityRecommendRes;
 import com.ssafy.wtd.backend.dto.activity.WeatherInfo;
 import com.ssafy.wtd.backend.service.ActivityService;
+import com.ssafy.wtd.backend.service.ActivityStreamService;
 import com.ssafy.wtd.backend.service.WeatherService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Collections;
 import java.util.Map;
@@ -19,6 +22,7 @@ public class ActivityController {
 
     private final WeatherService weatherService;
     private final ActivityService activityService;
+    private final ActivityStreamService activityStreamService;
 
     @GetMapping("/estimated-time/{userId}")
     public ResponseEntity<Map<String, Integer>> getEstimatedTime(@PathVariable Long userId) {
@@ -34,6 +38,15 @@ public class ActivityController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * AI 추천 스트리밍 (SSE)
+     * 장소가 하나씩 완성될 때마다 "place", 끝나면 "done" (count), 실패하면 "error" 이벤트
+     */
+    @PostMapping(value = "/recommend/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRecommendations(@RequestBody ActivityRecommendReq req) {
+        return activityStreamService.stream(req);
+    }
+
     @GetMapping("/weather-test")
     public ResponseEntity<WeatherInfo> testWeather(
             @RequestParam(value = "lat", defaultValue = "37.5547") double lat,
@@ -25,8 +25,7 @@ public class AuthController {
 
     @PostMapping("/refresh")
     public RefreshTokenRes refresh(@RequestBody RefreshTokenReq request) {
-        String newAccessToken = refreshTokenService.refreshAccessToken(request.getRefreshToken());
-        return new RefreshTokenRes(newAccessToken);
+        return refreshTokenService.refresh(request.getRefreshToken());
     }
 
     @PostMapping("/signup")
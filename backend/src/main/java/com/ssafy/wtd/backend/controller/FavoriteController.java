@@ -1,17 +1,24 @@
 package com.ssafy.wtd.backend.controller;
 
 import com.ssafy.wtd.backend.dto.favorite.FavoriteStationDetailDto;
+import com.ssafy.wtd.backend.dto.station.StationDetailDto;
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
 import com.ssafy.wtd.backend.model.FavoriteStation;
 import com.ssafy.wtd.backend.repository.FavoriteStationRepository;
-import com.ssafy.wtd.backend.repository.UserRepository;
-import com.ssafy.wtd.backend.model.User;
+import com.ssafy.wtd.backend.security.CustomUserDetails;
+import com.ssafy.wtd.backend.service.station.StationDetailService;
+import com.ssafy.wtd.backend.service.station.StationMarkerSnapshot;
+import com.ssafy.wtd.backend.service.station.StationSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/favorites")
@@ -19,25 +26,54 @@ import java.util.Map;
 public class FavoriteController {
 
     private final FavoriteStationRepository favoriteStationRepository;
-    private final UserRepository userRepository;
+    private final StationDetailService stationDetailService;
+    private final StationSnapshotService stationSnapshotService;
 
+    /**
+     * 내 즐겨찾기 목록
+     * withStatus=true 면 충전기 현황을 일괄 조회해 함께 내려줌 (충전소별 상세 재호출 불필요)
+     */
     @GetMapping("")
-    public ResponseEntity<?> getMyFavorites(Authentication authentication) {
-        if (authentication == null) return ResponseEntity.status(401).body("로그인이 필요합니다.");
-        
-        User user = userRepository.findByEmail(authentication.getName());
-        if (user == null) return ResponseEntity.status(404).body("사용자를 찾을 수 없습니다.");
+    public ResponseEntity<?> getMyFavorites(
+            @RequestParam(defaultValue = "false") boolean withStatus,
+            @AuthenticationPrincipal CustomUserDetails user) {
+        if (user == null) return ResponseEntity.status(401).body("로그인이 필요합니다.");
 
         List<FavoriteStationDetailDto> favorites = favoriteStationRepository.findDetailsByUserId(user.getUserId());
-        return ResponseEntity.ok(favorites);
+        if (!withStatus || favorites.isEmpty()) {
+            return ResponseEntity.ok(favorites);
+        }
+        return ResponseEntity.ok(withStatus(favorites));
+    }
+
+    private List<FavoriteStationDetailDto> withStatus(List<FavoriteStationDetailDto> favorites) {
+        Map<String, StationDetailDto> details = stationDetailService.getStationDetails(
+                        favorites.stream().map(FavoriteStationDetailDto::getStationId).toList())
+                .stream()
+                .collect(Collectors.toMap(StationDetailDto::getStationId, Function.identity()));
+        StationMarkerSnapshot snapshot = stationSnapshotService.current();
+
+        List<FavoriteStationDetailDto> result = new ArrayList<>(favorites.size());
+        for (FavoriteStationDetailDto favorite : favorites) {
+            StationDetailDto detail = details.get(favorite.getStationId());
+            StationMarkerDto marker = snapshot.find(favorite.getStationId());
+            result.add(FavoriteStationDetailDto.builder()
+                    .stationId(favorite.getStationId())
+                    .stationName(favorite.getStationName())
+                    .address(favorite.getAddress())
+                    .availableCount(marker != null ? marker.getAvailableCount() : null)
+                    .totalCount(marker != null ? marker.getTotalCount() : null)
+                    .markerColor(marker != null ? marker.getMarkerColor() : null)
+                    .chargers(detail != null ? detail.getChargers() : null)
+                    .build());
+        }
+        return result;
     }
 
     @PostMapping("/{stationId}")
-    public ResponseEntity<?> toggleFavorite(@PathVariable String stationId, Authentication authentication) {
-        if (authentication == null) return ResponseEntity.status(401).body("로그인이 필요합니다.");
-        
-        User user = userRepository.findByEmail(authentication.getName());
-        if (user == null) return ResponseEntity.status(404).body("사용자를 찾을 수 없습니다.");
+    public ResponseEntity<?> toggleFavorite(@PathVariable String stationId,
+                                            @AuthenticationPrincipal CustomUserDetails user) {
+        if (user == null) return ResponseEntity.status(401).body("로그인이 필요합니다.");
 
         FavoriteStation existing = favoriteStationRepository.findByUserAndStation(user.getUserId(), stationId);
         Map<String, Object> response = new HashMap<>();
@@ -60,16 +96,14 @@ public class FavoriteController {
     }
 
     @GetMapping("/{stationId}/check")
-    public ResponseEntity<?> checkFavorite(@PathVariable String stationId, Authentication authentication) {
-        if (authentication == null) {
+    public ResponseEntity<?> checkFavorite(@PathVariable String stationId,
+                                           @AuthenticationPrincipal CustomUserDetails user) {
+        if (user == null) {
             Map<String, Object> response = new HashMap<>();
             response.put("isFavorite", false);
             return ResponseEntity.ok(response);
         }
 
-        User user = userRepository.findByEmail(authentication.getName());
-        if (user == null) return ResponseEntity.status(404).body("사용자를 찾을 수 없습니다.");
-
         FavoriteStation existing = favoriteStationRepository.findByUserAndStation(user.getUserId(), stationId);
         Map<String, Object> response = new HashMap<>();
         response.put("isFavorite", existing != null);
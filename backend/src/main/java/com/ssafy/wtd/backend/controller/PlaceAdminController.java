@@ -0,0 +1,25 @@
+package com.ssafy.wtd.backend.controller;
+
+import com.ssafy.wtd.backend.dto.ApiRes;
+import com.ssafy.wtd.backend.dto.activity.PlaceSearchCacheStatsDto;
+import com.ssafy.wtd.backend.service.KakaoLocalService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/places")
+@RequiredArgsConstructor
+public class PlaceAdminController {
+
+    private final KakaoLocalService kakaoLocalService;
+
+    /**
+     * 카카오 장소 검색 캐시 적중률 / 제거 지표
+     */
+    @GetMapping("/search-cache")
+    public ApiRes<PlaceSearchCacheStatsDto> searchCache() {
+        return ApiRes.ok(kakaoLocalService.getCacheStats());
+    }
+}
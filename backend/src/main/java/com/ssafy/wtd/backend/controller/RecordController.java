@@ -4,14 +4,18 @@ import com.ssafy.wtd.backend.dto.charge.ChargeConfirmReq;
 import com.ssafy.wtd.backend.dto.charge.ChargeConfirmRes;
 import com.ssafy.wtd.backend.dto.charge.ChargeStartReq;
 import com.ssafy.wtd.backend.dto.charge.ImageParsingRes;
+import com.ssafy.wtd.backend.dto.charge.OcrJobRes;
 import com.ssafy.wtd.backend.model.ChargeRecord;
-import com.ssafy.wtd.backend.model.User;
 import com.ssafy.wtd.backend.repository.ChargeRecordRepository;
 import com.ssafy.wtd.backend.repository.UserRepository;
+import com.ssafy.wtd.backend.security.CustomUserDetails;
+import com.ssafy.wtd.backend.security.UserDetailsCache;
+import com.ssafy.wtd.backend.service.analysis.ReceiptOcrJobService;
 import com.ssafy.wtd.backend.service.analysis.RecordService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -23,17 +27,15 @@ import java.util.List;
 public class RecordController {
 
     private final RecordService recordService;
+    private final ReceiptOcrJobService receiptOcrJobService;
     private final ChargeRecordRepository chargeRecordRepository;
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @GetMapping("/me")
-    public ResponseEntity<?> getMyChargeRecords(Authentication authentication) {
-        if (authentication == null)
-            return ResponseEntity.status(401).body("로그인이 필요합니다.");
-
-        User user = userRepository.findByEmail(authentication.getName());
+    public ResponseEntity<?> getMyChargeRecords(@AuthenticationPrincipal CustomUserDetails user) {
         if (user == null)
-            return ResponseEntity.status(404).body("사용자를 찾을 수 없습니다.");
+            return ResponseEntity.status(401).body("로그인이 필요합니다.");
 
         List<ChargeRecord> records = chargeRecordRepository.findAllByUserId(user.getUserId());
         return ResponseEntity.ok(records);
@@ -44,15 +46,10 @@ public class RecordController {
     @PostMapping("/start")
     public ResponseEntity<Void> startCharging(
             @RequestBody ChargeStartReq request,
-            Authentication authentication) {
+            @AuthenticationPrincipal CustomUserDetails user) {
 
-        if (authentication == null) {
-            return ResponseEntity.status(401).build();
-        }
-
-        User user = userRepository.findByEmail(authentication.getName());
         if (user == null) {
-            return ResponseEntity.status(404).build();
+            return ResponseEntity.status(401).build();
         }
 
         // 프론트에서 보낸 userId 대신 인증된 정보의 ID 사용 (보안 및 정확성)
@@ -74,17 +71,46 @@ public class RecordController {
         return ResponseEntity.ok(response);
     }
 
+    // 영수증 이미지 업로드 & 비동기 AI 파싱 API (jobId 즉시 반환)
+    // POST /charge-records/{recordId}/receipt/jobs
+    @PostMapping("/{recordId}/receipt/jobs")
+    public ResponseEntity<OcrJobRes> submitReceiptJob(
+            @PathVariable Long recordId,
+            @RequestPart("file") MultipartFile imageFile,
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        if (user == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(receiptOcrJobService.submit(recordId, imageFile, user.getUserId()));
+    }
+
+    // 비동기 파싱 작업 상태 / 결과 조회 API (DONE 이면 result 에 파싱 결과)
+    // GET /charge-records/receipt-jobs/{jobId}
+    @GetMapping("/receipt-jobs/{jobId}")
+    public ResponseEntity<OcrJobRes> getReceiptJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal CustomUserDetails user) {
+
+        if (user == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        return ResponseEntity.ok(receiptOcrJobService.getJob(jobId, user.getUserId()));
+    }
+
     // AI 파싱 결과 확정(사용자 검증) API
     // POST /charge-records/{recordId}/confirm
     @PostMapping("/{recordId}/confirm")
     public ResponseEntity<ChargeConfirmRes> confirmParsedResult(
             @PathVariable("recordId") Long recordId,
             @RequestBody ChargeConfirmReq request,
-            Authentication authentication) {
+            @AuthenticationPrincipal CustomUserDetails user) {
 
-        User user = userRepository.findByEmail(authentication.getName());
         if (user == null)
-            return ResponseEntity.status(404).body(null);
+            return ResponseEntity.status(401).body(null);
 
         ChargeConfirmRes response = recordService.confirmAndFinalizeRecord(recordId, request, user.getUserId());
 
@@ -96,15 +122,10 @@ public class RecordController {
     @DeleteMapping("/{recordId}/cancel")
     public ResponseEntity<?> cancelCharging(
             @PathVariable Long recordId,
-            Authentication authentication) {
-
-        if (authentication == null) {
-            return ResponseEntity.status(401).body("로그인이 필요합니다.");
-        }
+            @AuthenticationPrincipal CustomUserDetails user) {
 
-        User user = userRepository.findByEmail(authentication.getName());
         if (user == null) {
-            return ResponseEntity.status(404).body("사용자를 찾을 수 없습니다.");
+            return ResponseEntity.status(401).body("로그인이 필요합니다.");
         }
 
         // 충전 기록 조회
@@ -123,6 +144,7 @@ public class RecordController {
 
         // 사용자 상태를 ACTIVE로 변경
         userRepository.updateStatus(user.getUserId(), "ACTIVE");
+        userDetailsCache.evictByUserId(user.getUserId());
 
         return ResponseEntity.ok().body("충전이 취소되었습니다.");
     }
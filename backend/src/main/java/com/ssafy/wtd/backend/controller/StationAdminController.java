@@ -1,11 +1,22 @@
 package com.ssafy.wtd.backend.controller;
 
+import com.ssafy.wtd.backend.client.ApiCallMetrics;
+import com.ssafy.wtd.backend.client.ApiRateLimiter;
+import com.ssafy.wtd.backend.dto.ApiRes;
+import com.ssafy.wtd.backend.dto.station.StationDetailCacheStatsDto;
+import com.ssafy.wtd.backend.dto.station.StationSnapshotInfoDto;
 import com.ssafy.wtd.backend.service.station.ChargingStationSyncService;
+import com.ssafy.wtd.backend.service.station.StationDetailService;
+import com.ssafy.wtd.backend.service.station.StationSnapshotService;
+import com.ssafy.wtd.backend.service.station.SyncReport;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/admin/stations")
@@ -13,10 +24,53 @@ import org.springframework.web.bind.annotation.RestController;
 public class StationAdminController {
 
     private final ChargingStationSyncService syncService;
+    private final StationSnapshotService stationSnapshotService;
+    private final StationDetailService stationDetailService;
+    private final ApiRateLimiter rateLimiter;
+    private final ApiCallMetrics apiCallMetrics;
 
+    /**
+     * 수동 동기화 (zcode 미지정 시 전국)
+     * 공공데이터 API 와 같은 rate limiter 를 사용하므로 한도 소진 시 429
+     */
     @PostMapping("/refresh")
-    public void refresh(@RequestParam(required = false) String zcode) {
-        syncService.refreshChargingStationData(zcode);
+    public ApiRes<SyncReport> refresh(@RequestParam(required = false) String zcode) {
+        if (!rateLimiter.tryAcquire()) {
+            apiCallMetrics.rejected();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "잠시 후 다시 시도해주세요.");
+        }
+        return ApiRes.ok(syncService.refreshChargingStationData(zcode));
+    }
+
+    /**
+     * 최근 동기화 진행 상황 / 처리량 조회
+     */
+    @GetMapping("/sync-status")
+    public ApiRes<SyncReport> syncStatus() {
+        return ApiRes.ok(syncService.getLastReport());
+    }
+
+    /**
+     * 공공데이터 API 호출 지표 (지연 시간 / 재시도 / rate limit)
+     */
+    @GetMapping("/api-metrics")
+    public ApiRes<ApiCallMetrics> apiMetrics() {
+        return ApiRes.ok(apiCallMetrics);
     }
-}
 
+    /**
+     * 조회용 마커 스냅샷 버전 / 빌드 시각
+     */
+    @GetMapping("/snapshot")
+    public ApiRes<StationSnapshotInfoDto> snapshot() {
+        return ApiRes.ok(stationSnapshotService.getInfo());
+    }
+
+    /**
+     * 충전소 상세 캐시 적중률 / 제거 / 무효화 지표
+     */
+    @GetMapping("/detail-cache")
+    public ApiRes<StationDetailCacheStatsDto> detailCache() {
+        return ApiRes.ok(stationDetailService.getCacheStats());
+    }
+}
@@ -1,10 +1,21 @@
 package com.ssafy.wtd.backend.controller;
 
 import com.ssafy.wtd.backend.dto.ApiRes;
+import com.ssafy.wtd.backend.dto.station.RegionCountDto;
+import com.ssafy.wtd.backend.dto.station.StationChangesDto;
+import com.ssafy.wtd.backend.dto.station.StationClusterDto;
 import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
 import com.ssafy.wtd.backend.service.station.StationQueryService;
+import com.ssafy.wtd.backend.service.station.StationStatusPushService;
+import com.ssafy.wtd.backend.service.station.StationTileService;
+import com.ssafy.wtd.backend.service.station.StationTileService.StationTile;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -14,6 +25,8 @@ import java.util.List;
 public class StationController {
 
         private final StationQueryService stationQueryService;
+        private final StationTileService stationTileService;
+        private final StationStatusPushService stationStatusPushService;
 
         /**
          * 초기 전체 조회
@@ -26,14 +39,73 @@ public class StationController {
 
         /**
          * 좌표 기반 조회 (Phase 2-2)
+         * 가까운 순 정렬, limit 지정 시 가까운 limit 개만
          */
         @GetMapping("/nearby")
         public ApiRes<List<StationMarkerDto>> getNearbyStations(
                         @RequestParam double lat,
                         @RequestParam double lng,
-                        @RequestParam(defaultValue = "2000") int radius) {
+                        @RequestParam(defaultValue = "2000") int radius,
+                        @RequestParam(defaultValue = "0") int limit) {
                 return ApiRes.ok(
-                                stationQueryService.getNearbyStationMarkers(lat, lng, radius));
+                                stationQueryService.getNearbyStationMarkers(lat, lng, radius, limit));
+        }
+
+        /**
+         * 지도 화면 영역(bbox) 조회
+         */
+        @GetMapping("/bbox")
+        public ApiRes<List<StationMarkerDto>> getStationsInBounds(
+                        @RequestParam double minLat,
+                        @RequestParam double maxLat,
+                        @RequestParam double minLng,
+                        @RequestParam double maxLng) {
+                return ApiRes.ok(
+                                stationQueryService.getStationMarkersInBounds(minLat, maxLat, minLng, maxLng));
+        }
+
+        /**
+         * since 버전 이후 바뀐 마커만 조회 (bbox = minLng,minLat,maxLng,maxLat, 선택)
+         * 응답 version 을 다음 요청의 since 로 사용, full=true 면 목록 전체 교체
+         */
+        @GetMapping("/changes")
+        public ApiRes<StationChangesDto> getStationChanges(
+                        @RequestParam(defaultValue = "0") long since,
+                        @RequestParam(required = false) String bbox) {
+                return ApiRes.ok(
+                                stationQueryService.getStationChanges(since, bbox));
+        }
+
+        /**
+         * 축소 지도용 클러스터 조회 (bbox = minLng,minLat,maxLng,maxLat)
+         */
+        @GetMapping("/clusters")
+        public ApiRes<List<StationClusterDto>> getStationClusters(
+                        @RequestParam String bbox,
+                        @RequestParam int zoom) {
+                return ApiRes.ok(
+                                stationQueryService.getStationClusters(bbox, zoom));
+        }
+
+        /**
+         * 충전소 마커 벡터 타일 (Mapbox Vector Tile, layer "stations")
+         * 동기화 버전 기반 ETag → If-None-Match 가 같으면 본문 없이 304
+         */
+        @GetMapping("/tiles/{z}/{x}/{y}")
+        public ResponseEntity<byte[]> getStationTile(
+                        @PathVariable int z,
+                        @PathVariable int x,
+                        @PathVariable int y,
+                        WebRequest request) {
+                if (request.checkNotModified(stationTileService.currentEtag(z, x, y))) {
+                        return null;
+                }
+                StationTile tile = stationTileService.getTile(z, x, y);
+                return ResponseEntity.ok()
+                                .eTag(tile.etag())
+                                .cacheControl(CacheControl.noCache().cachePublic())
+                                .contentType(MediaType.parseMediaType(StationTileService.CONTENT_TYPE))
+                                .body(tile.data());
         }
 
         /**
@@ -42,18 +114,53 @@ public class StationController {
         @GetMapping("/search")
         public ApiRes<List<StationMarkerDto>> searchStations(
                         @RequestParam String city,
-                        @RequestParam String district) {
+                        @RequestParam(required = false) String district) {
                 return ApiRes.ok(
                                 stationQueryService.getStationsByCityAndDistrict(city, district));
         }
 
+        /**
+         * 지역별 충전소 집계 (city 미지정 시 시도별, 지정 시 시군구별)
+         */
+        @GetMapping("/regions")
+        public ApiRes<List<RegionCountDto>> getRegionCounts(
+                        @RequestParam(required = false) String city) {
+                return ApiRes.ok(
+                                stationQueryService.getRegionCounts(city));
+        }
+
         /**
          * 키워드 검색 (keyword)
+         * 관련도 순, size 지정 시 page(0부터) 단위 페이징
          */
         @GetMapping("/keyword-search")
         public ApiRes<List<StationMarkerDto>> searchStationsByKeyword(
-                        @RequestParam String keyword) {
+                        @RequestParam String keyword,
+                        @RequestParam(defaultValue = "0") int page,
+                        @RequestParam(defaultValue = "0") int size) {
+                return ApiRes.ok(
+                                stationQueryService.getStationsByKeyword(keyword, page, size));
+        }
+
+        /**
+         * 충전소 이름 자동완성 (prefix)
+         */
+        @GetMapping("/autocomplete")
+        public ApiRes<List<StationMarkerDto>> autocompleteStations(
+                        @RequestParam String prefix,
+                        @RequestParam(defaultValue = "10") int limit) {
                 return ApiRes.ok(
-                                stationQueryService.getStationsByKeyword(keyword));
+                                stationQueryService.autocompleteStations(prefix, limit));
+        }
+
+        /**
+         * 충전기 상태 실시간 구독 (SSE)
+         * bbox(minLng,minLat,maxLng,maxLat) 또는 stationIds 범위에서 동기화로 바뀐 충전기만 "status" 이벤트로 전송
+         */
+        @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public SseEmitter streamStationStatus(
+                        @RequestParam(required = false) String bbox,
+                        @RequestParam(required = false) List<String> stationIds) {
+                return stationStatusPushService.subscribe(bbox, stationIds);
         }
 }
@@ -4,15 +4,37 @@ import com.ssafy.wtd.backend.dto.ApiRes;
 import com.ssafy.wtd.backend.dto.station.StationDetailDto;
 import com.ssafy.wtd.backend.service.station.StationDetailService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/stations")
 public class StationDetailController {
 
+    // 한 번에 조회할 수 있는 충전소 수
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final StationDetailService stationDetailService;
 
+    /**
+     * 여러 충전소 상세 일괄 조회 (즐겨찾기 / 다중 선택)
+     * ids=A,B,C 순서대로, 없는 충전소는 제외
+     */
+    @GetMapping("/details")
+    public ApiRes<List<StationDetailDto>> getStationDetails(
+            @RequestParam List<String> ids
+    ) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "충전소는 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다.");
+        }
+        return ApiRes.ok(stationDetailService.getStationDetails(ids));
+    }
+
     /**
      * 충전소 상세 조회 (마커 클릭)
      */
@@ -11,7 +11,7 @@ public class ActivityRecommendRes {
     private List<PlaceInfo> recommendations; // 추천 장소 3곳
 
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     public static class PlaceInfo {
         private String placeName; // 예: "그린리프 카페"
         private String category; // 예: "카페"
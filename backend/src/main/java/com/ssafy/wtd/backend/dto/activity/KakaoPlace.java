@@ -0,0 +1,15 @@
+package com.ssafy.wtd.backend.dto.activity;
+
+/**
+ * 카카오 키워드 검색 결과 중 추천에 쓰는 필드만 담은 장소 (검색 캐시에 그대로 보관)
+ */
+public record KakaoPlace(
+        String name,        // place_name
+        String category,    // category_name
+        String address,     // address_name
+        double lat,         // y
+        double lng,         // x
+        String phone,
+        String url          // place_url
+) {
+}
@@ -0,0 +1,19 @@
+package com.ssafy.wtd.backend.dto.activity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 카카오 장소 검색 캐시 지표 (관리자 모니터링용, 기동 이후 누적)
+public class PlaceSearchCacheStatsDto {
+
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long loadFailureCount;   // 카카오 호출 실패 (캐시에 저장하지 않음)
+
+    private long entryCount;
+    private long maxEntries;
+}
@@ -7,4 +7,5 @@ import lombok.Getter;
 @AllArgsConstructor
 public class RefreshTokenRes {
     private String accessToken;
+    private String refreshToken;   // 회전된 새 refresh token (이전 토큰은 폐기됨)
 }
@@ -0,0 +1,17 @@
+package com.ssafy.wtd.backend.dto.charge;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class OcrJobRes { // 영수증 OCR 비동기 작업 상태 (폴링 응답)
+    private String jobId;
+    private Long recordId;
+    private String status;          // PENDING / RUNNING / DONE / FAILED
+    private ImageParsingRes result; // DONE 일 때만
+    private String message;         // FAILED 사유
+    private LocalDateTime createdAt;
+}
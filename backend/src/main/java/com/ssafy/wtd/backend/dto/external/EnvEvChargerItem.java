@@ -0,0 +1,65 @@
+package com.ssafy.wtd.backend.dto.external;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+/**
+ * 환경부 EV 충전기 OpenAPI 응답 item (충전기 단위)
+ * - 응답 전체는 EnvEvChargerClient 가 토큰 단위로 읽고, item 만 이 클래스로 변환
+ */
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EnvEvChargerItem {
+
+    /* ========= 충전소 ========= */
+    @JsonProperty("statId")
+    private String statId;
+
+    @JsonProperty("statNm")
+    private String statNm;
+
+    @JsonProperty("addr")
+    private String addr;
+
+    @JsonProperty("lat")
+    private String lat;
+
+    @JsonProperty("lng")
+    private String lng;
+
+    /* ========= 충전기 ========= */
+    @JsonProperty("chgerId")
+    private String chgerId;
+
+    @JsonProperty("chgerNm")
+    private String chgerNm;
+
+    @JsonProperty("chgerType")
+    private String chgerType;
+
+    @JsonProperty("stat")
+    private String stat;
+
+    @JsonProperty("statUpdDt")
+    private String statUpdDt;
+
+    /* ========= 운영 ========= */
+    @JsonProperty("useTime")
+    private String useTime;
+
+    @JsonProperty("busiNm")
+    private String busiNm;
+
+    @JsonProperty("busiCall")
+    private String busiCall;
+
+    @JsonProperty("parkingFree")
+    private String parkingFree;
+
+    @JsonProperty("note")
+    private String note;
+
+    @JsonProperty("powerType")
+    private String powerType;
+}
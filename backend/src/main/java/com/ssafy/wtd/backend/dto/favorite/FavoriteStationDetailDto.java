@@ -1,16 +1,27 @@
 package com.ssafy.wtd.backend.dto.favorite;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ssafy.wtd.backend.dto.station.ChargerSummaryDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+// 실시간 현황 필드는 withStatus=true 로 요청했을 때만 채워서 내려감
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class FavoriteStationDetailDto {
     private String stationId;
     private String stationName;
     private String address;
+
+    private Integer availableCount;
+    private Integer totalCount;
+    private String markerColor;
+    private List<ChargerSummaryDto> chargers;
 }
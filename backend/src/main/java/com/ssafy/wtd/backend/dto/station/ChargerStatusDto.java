@@ -0,0 +1,16 @@
+package com.ssafy.wtd.backend.dto.station;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 실시간 push 용 충전기 상태 (증분 동기화는 상태만 내려오므로 타입 정보 없음)
+public class ChargerStatusDto {
+
+    private String chargerId;
+    private String status;
+
+    private String statusLabel;
+    private String markerColor;
+}
@@ -0,0 +1,20 @@
+package com.ssafy.wtd.backend.dto.station;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 지역(시도 / 시군구)별 충전소 집계 DTO
+public class RegionCountDto {
+
+    private String regionCode;   // 시도: zcode (11), 시군구: zcode|시군구명 (11|강남구)
+    private String regionName;   // 서울특별시 / 강남구
+
+    private int stationCount;
+    private int availableCount;  // 사용 가능 충전기 수 합계
+    private int totalCount;      // 전체 충전기 수 합계
+
+    private double lat;          // 소속 충전소 평균 좌표 (지도 표시용)
+    private double lng;
+}
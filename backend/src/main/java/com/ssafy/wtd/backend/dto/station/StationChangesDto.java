@@ -0,0 +1,18 @@
+package com.ssafy.wtd.backend.dto.station;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// since 버전 이후 바뀐 충전소 마커 (full 이면 changed 가 영역 전체 목록 → 클라이언트는 교체)
+public class StationChangesDto {
+
+    private long version;        // 다음 요청의 since 로 사용
+    private boolean full;
+
+    private List<StationMarkerDto> changed;
+    private List<String> removed; // 사라진 충전소 id (tombstone)
+}
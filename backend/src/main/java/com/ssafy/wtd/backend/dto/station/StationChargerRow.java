@@ -0,0 +1,17 @@
+package com.ssafy.wtd.backend.dto.station;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+// 여러 충전소 충전기 일괄 조회 결과 (충전소별로 묶기 위해 stationId 포함)
+public class StationChargerRow {
+
+    private String stationId;
+
+    private String chargerId;
+    private String powerType;
+    private String chargerType;
+    private String status;
+}
@@ -0,0 +1,37 @@
+package com.ssafy.wtd.backend.dto.station;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+// 축소 지도용 충전소 클러스터 DTO
+public class StationClusterDto {
+
+    private double lat;          // 클러스터 내 충전소 평균 좌표
+    private double lng;
+
+    private int count;           // 충전소 수
+    private int availableCount;  // 사용 가능 충전기 수 합계
+    private int totalCount;      // 전체 충전기 수 합계
+
+    private String markerColor;  // 가장 많은 충전소의 마커 색상 (GREEN / BLUE / GRAY)
+    private String stationId;    // 충전소가 1개일 때만
+
+    public StationClusterDto(
+            double lat,
+            double lng,
+            int count,
+            int availableCount,
+            int totalCount,
+            String markerColor,
+            String stationId) {
+        this.lat = lat;
+        this.lng = lng;
+        this.count = count;
+        this.availableCount = availableCount;
+        this.totalCount = totalCount;
+        this.markerColor = markerColor;
+        this.stationId = stationId;
+    }
+}
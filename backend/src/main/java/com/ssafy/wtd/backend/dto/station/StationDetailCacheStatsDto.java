@@ -0,0 +1,20 @@
+package com.ssafy.wtd.backend.dto.station;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 충전소 상세 캐시 지표 (관리자 모니터링용, 기동 이후 누적)
+public class StationDetailCacheStatsDto {
+
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long invalidationCount;   // 동기화로 무효화된 충전소 수
+
+    private long entryCount;
+    private long weightedSize;        // 보관 중인 충전기 수 기준 크기
+    private long maxWeight;
+}
@@ -19,7 +19,21 @@ public class StationMarkerDto {
 
     private String markerColor; // GREEN / BLUE / GRAY
 
-    public void setMarkerColor(String markerColor) {
+    // 마커 스냅샷을 만들 때 사용하는 생성자
+    public StationMarkerDto(
+            String stationId,
+            String stationName,
+            double lat,
+            double lng,
+            int availableCount,
+            int totalCount,
+            String markerColor) {
+        this.stationId = stationId;
+        this.stationName = stationName;
+        this.lat = lat;
+        this.lng = lng;
+        this.availableCount = availableCount;
+        this.totalCount = totalCount;
         this.markerColor = markerColor;
     }
 }
@@ -0,0 +1,17 @@
+package com.ssafy.wtd.backend.dto.station;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+// 마커 스냅샷 상태 (관리자 모니터링용)
+public class StationSnapshotInfoDto {
+
+    private long version;
+    private LocalDateTime builtAt;
+    private long buildMs;
+    private int stationCount;
+}
@@ -0,0 +1,20 @@
+package com.ssafy.wtd.backend.dto.station;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+// 마커 스냅샷 빌드용 조회 결과 (충전소 1개 + 충전기 집계)
+public class StationSnapshotRow {
+
+    private String stationId;
+    private String stationName;
+    private String address;
+
+    private double lat;
+    private double lng;
+
+    private int availableCount;
+    private int totalCount;
+}
@@ -0,0 +1,20 @@
+package com.ssafy.wtd.backend.dto.station;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// 실시간 상태 push 이벤트 (충전소 1개, 이번 동기화에서 바뀐 충전기만)
+public class StationStatusEventDto {
+
+    private String stationId;
+
+    private int availableCount;   // 동기화 반영 후 값
+    private int totalCount;
+    private String markerColor;
+
+    private List<ChargerStatusDto> chargers;   // 충전기 id + 상태만 (타입은 상세 조회 값 유지)
+}
@@ -0,0 +1,17 @@
+package com.ssafy.wtd.backend.model;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Charger {
+    private String chargerId;
+    private String stationId;
+
+    private int status;          // 0=정상, 1=고장, 2=점검, 3=사용중
+    private String powerType;    // 완속 / 급속
+    private String chargerType;  // 상세 충전 타입 (DC콤보, AC완속 등)
+}
@@ -11,7 +11,7 @@ public class RefreshToken {
 
     private Long id;
     private Long userId;
-    private String token;
+    private String tokenHash;   // SHA-256 (원문은 저장하지 않음)
     private LocalDateTime expiresAt;
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,75 @@
+package com.ssafy.wtd.backend.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 환경부 EV 충전기 OpenAPI 시도 코드 (zcode)
+ */
+@Getter
+public enum SidoCode {
+
+    SEOUL("11", "서울특별시", "서울"),
+    BUSAN("26", "부산광역시", "부산"),
+    DAEGU("27", "대구광역시", "대구"),
+    INCHEON("28", "인천광역시", "인천"),
+    GWANGJU("29", "광주광역시", "광주"),
+    DAEJEON("30", "대전광역시", "대전"),
+    ULSAN("31", "울산광역시", "울산"),
+    SEJONG("36", "세종특별자치시", "세종"),
+    GYEONGGI("41", "경기도", "경기"),
+    CHUNGBUK("43", "충청북도", "충북", "충청북"),
+    CHUNGNAM("44", "충청남도", "충남", "충청남"),
+    JEONNAM("46", "전라남도", "전남", "전라남"),
+    GYEONGBUK("47", "경상북도", "경북", "경상북"),
+    GYEONGNAM("48", "경상남도", "경남", "경상남"),
+    JEJU("50", "제주특별자치도", "제주"),
+    GANGWON("51", "강원특별자치도", "강원"),
+    JEONBUK("52", "전북특별자치도", "전북", "전라북");
+
+    // 시도명 뒤에 붙는 행정구역 접미사 (긴 것부터 제거)
+    private static final List<String> SUFFIXES = List.of("특별자치시", "특별자치도", "특별시", "광역시", "도", "시");
+
+    private final String zcode;
+    private final String sidoName;
+    private final List<String> aliases;   // 접미사를 뗀 약칭 (서울, 충북, 충청북 ...)
+
+    SidoCode(String zcode, String sidoName, String... aliases) {
+        this.zcode = zcode;
+        this.sidoName = sidoName;
+        this.aliases = List.of(aliases);
+    }
+
+    public static SidoCode from(String zcode) {
+        return Arrays.stream(values())
+                .filter(v -> v.zcode.equals(zcode))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 시도명 → 코드 (서울 / 서울시 / 서울특별시, 강원도 / 강원특별자치도, 충북 / 충청북도 등 모두 허용)
+     *
+     * @return 알 수 없는 이름이면 null
+     */
+    public static SidoCode fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String shortName = name.replaceAll("\\s+", "");
+        for (String suffix : SUFFIXES) {
+            if (shortName.length() > suffix.length() && shortName.endsWith(suffix)) {
+                shortName = shortName.substring(0, shortName.length() - suffix.length());
+                break;
+            }
+        }
+        for (SidoCode v : values()) {
+            if (v.aliases.contains(shortName)) {
+                return v;
+            }
+        }
+        return null;
+    }
+}
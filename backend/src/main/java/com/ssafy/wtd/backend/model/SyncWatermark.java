@@ -0,0 +1,17 @@
+package com.ssafy.wtd.backend.model;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncWatermark {
+    private String zcode;
+
+    private LocalDateTime lastStatUpdDt;   // 이 시각(KST) 이전의 상태 변경은 모두 반영됨
+    private LocalDateTime lastFullSyncAt;  // 마지막 전체 동기화 시각 (KST)
+}
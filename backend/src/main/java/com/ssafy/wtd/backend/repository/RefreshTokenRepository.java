@@ -4,12 +4,18 @@ import com.ssafy.wtd.backend.model.RefreshToken;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
+
 @Mapper
 public interface RefreshTokenRepository {
 
     void save(RefreshToken refreshToken);
 
-    RefreshToken findByToken(@Param("token") String token);
+    RefreshToken findByTokenHash(@Param("tokenHash") String tokenHash);
+
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
 
     void deleteByUserId(@Param("userId") Long userId);
+
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -0,0 +1,25 @@
+package com.ssafy.wtd.backend.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * refresh_token 테이블 구조 확인 / 이전 (token 원문 → token_hash)
+ */
+@Mapper
+public interface RefreshTokenSchemaRepository {
+
+    // 현재 DB 의 refresh_token 에 해당 컬럼이 있으면 1
+    int countColumn(@Param("column") String column);
+
+    void addTokenHashColumn();
+
+    // 원문 token 으로 token_hash 채움 (TokenHashes.sha256 과 같은 SHA-256 base64url)
+    int fillTokenHashes();
+
+    // 같은 토큰이 여러 번 저장된 경우 가장 최근 row 만 남김 (unique key 추가 전)
+    int deleteDuplicateHashes();
+
+    // 원문 컬럼 삭제 + NOT NULL + unique / 만료 index
+    void finishTokenHashColumn();
+}
@@ -1,7 +1,11 @@
 package com.ssafy.wtd.backend.repository.station;
 
+import com.ssafy.wtd.backend.model.Charger;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.List;
 
 @Mapper
 public interface ChargerRepository {
@@ -12,4 +16,16 @@ public interface ChargerRepository {
             @Param("status") int status,
             @Param("powerType") String powerType,
             @Param("chargerType") String chargerType);
+
+    // 다건 upsert (multi-row INSERT ... ON DUPLICATE KEY UPDATE)
+    void saveOrUpdateAll(@Param("chargers") List<Charger> chargers);
+
+    // 상태만 다건 갱신 (증분 동기화)
+    void updateStatusAll(@Param("chargers") List<Charger> chargers);
+
+    // 전체 동기화에서 사라진 충전기 삭제
+    int deleteByIds(@Param("chargerIds") List<String> chargerIds);
+
+    // 변경 감지용 fingerprint 적재 (전체 충전기 streaming 조회)
+    void streamAllChargers(ResultHandler<Charger> handler);
 }
@@ -1,7 +1,11 @@
 package com.ssafy.wtd.backend.repository.station;
 
+import com.ssafy.wtd.backend.model.Station;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.List;
 
 @Mapper
 public interface ChargingStationRepository {
@@ -13,4 +17,10 @@ public interface ChargingStationRepository {
             @Param("lat") double lat,
             @Param("lng") double lng
     );
+
+    // 다건 upsert (multi-row INSERT ... ON DUPLICATE KEY UPDATE)
+    void saveOrUpdateAll(@Param("stations") List<Station> stations);
+
+    // 변경 감지용 fingerprint 적재 (전체 충전소 streaming 조회)
+    void streamAllStations(ResultHandler<Station> handler);
 }
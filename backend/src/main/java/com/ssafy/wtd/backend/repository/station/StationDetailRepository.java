@@ -1,10 +1,12 @@
 package com.ssafy.wtd.backend.repository.station;
 
 import com.ssafy.wtd.backend.dto.station.ChargerSummaryDto;
+import com.ssafy.wtd.backend.dto.station.StationChargerRow;
 import com.ssafy.wtd.backend.dto.station.StationDetailDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -13,4 +15,8 @@ public interface StationDetailRepository {
     StationDetailDto findStationInfo(@Param("stationId") String stationId);
 
     List<ChargerSummaryDto> findChargersByStationId(@Param("stationId") String stationId);
+
+    List<StationDetailDto> findStationInfos(@Param("stationIds") Collection<String> stationIds);
+
+    List<StationChargerRow> findChargersByStationIds(@Param("stationIds") Collection<String> stationIds);
 }
@@ -0,0 +1,14 @@
+package com.ssafy.wtd.backend.repository.station;
+
+import com.ssafy.wtd.backend.model.SyncWatermark;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+@Mapper
+public interface SyncWatermarkRepository {
+
+    List<SyncWatermark> findAll();
+
+    void saveOrUpdate(SyncWatermark watermark);
+}
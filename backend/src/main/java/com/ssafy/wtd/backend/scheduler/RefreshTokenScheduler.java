@@ -0,0 +1,30 @@
+package com.ssafy.wtd.backend.scheduler;
+
+import com.ssafy.wtd.backend.service.auth.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenScheduler {
+
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * 매시 만료된 refresh token 삭제
+     */
+    @Scheduled(cron = "${auth.refresh-token.purge-cron:0 30 * * * *}")
+    public void purgeExpiredTokens() {
+        try {
+            int deleted = refreshTokenService.purgeExpired();
+            if (deleted > 0) {
+                log.info("[SCHEDULE] Expired refresh tokens purged. deleted={}", deleted);
+            }
+        } catch (Exception e) {
+            log.error("[SCHEDULE] Error occurred while purging refresh tokens", e);
+        }
+    }
+}
@@ -14,13 +14,14 @@ public class StationScheduler {
     private final ChargingStationSyncService syncService;
 
     /**
-     * 2분마다 서울 지역(zcode=11) 충전소/충전기 데이터 동기화
+     * 2분마다 전국 17개 시도 충전소/충전기 데이터 동기화
+     * (평소에는 상태 변경분만, full-interval-minutes 마다 전체 동기화)
      */
     @Scheduled(fixedDelay = 120000)
     public void syncStationData() {
         log.info("[SCHEDULE] Starting periodic station data sync...");
         try {
-            syncService.refreshChargingStationData("11");
+            syncService.refreshAllRegions();
             log.info("[SCHEDULE] Periodic sync completed successfully.");
         } catch (Exception e) {
             log.error("[SCHEDULE] Error occurred during periodic sync", e);
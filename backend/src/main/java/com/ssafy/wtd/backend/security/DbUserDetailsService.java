@@ -11,16 +11,20 @@ import org.springframework.stereotype.Service;
 public class DbUserDetailsService implements UserDetailsService {
 
     private final UserRepository userMapper;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String email)
             throws UsernameNotFoundException {
 
-        User user = userMapper.findByEmail(email);
-        if (user == null) {
+        CustomUserDetails userDetails = userDetailsCache.get(email, key -> {
+            User user = userMapper.findByEmail(key);
+            return user == null ? null : new CustomUserDetails(user);
+        });
+        if (userDetails == null) {
             throw new UsernameNotFoundException("존재하지 않는 사용자입니다.");
         }
-        return new CustomUserDetails(user);
+        return userDetails;
     }
 }
 
@@ -9,6 +9,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -50,17 +51,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 2. "Bearer " 제거 후 JWT 추출
         String jwt = authHeader.substring(7);
 
-        // 3. JWT에서 사용자 식별 정보 추출 (보통 email)
-        String email = jwtUtil.extractEmail(jwt);
+        // 3. JWT 검증 (서명 + 만료, 요청당 1회 / 같은 토큰은 캐시된 claims 사용)
+        VerifiedToken token = jwtUtil.verify(jwt);
 
         // 이미 인증된 경우 다시 인증하지 않음
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-            // 4. DB에서 사용자 정보 로드
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+
+            // 4. 사용자 정보 로드 (UserDetailsCache 적중 시 DB 조회 없음)
+            UserDetails userDetails;
+            try {
+                userDetails = userDetailsService.loadUserByUsername(token.email());
+            } catch (UsernameNotFoundException e) {
+                filterChain.doFilter(request, response);
+                return;
+            }
 
-            // DISABLED 사용자 차단
             if (userDetails instanceof CustomUserDetails customUser) {
+                // DISABLED 사용자 차단
                 if ("DISABLED".equalsIgnoreCase(customUser.getStatus())) {
 
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -71,26 +78,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                     return; // 절대 다음 필터로 넘기지 않음
                 }
-            }
 
-            // 5. JWT 유효성 검증 (서명 + 만료 + 사용자 일치)
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
+                // 5. 토큰 발급 대상과 같은 사용자인지 확인 (같은 이메일로 재가입한 경우 이전 토큰 거부)
+                if (token.userId() != null && !token.userId().equals(customUser.getUserId())) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+            }
 
-                // 6. 인증 객체 생성
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,      // principal
-                                null,             // credentials (JWT라서 null)
-                                userDetails.getAuthorities()
-                        );
+            // 6. 인증 객체 생성
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(
+                            userDetails,      // principal
+                            null,             // credentials (JWT라서 null)
+                            userDetails.getAuthorities()
+                    );
 
-                authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
+            authentication.setDetails(
+                    new WebAuthenticationDetailsSource().buildDetails(request)
+            );
 
-                // 7. SecurityContext에 등록 (핵심)
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
+            // 7. SecurityContext에 등록 (핵심)
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
         // 8. 다음 필터로 요청 전달
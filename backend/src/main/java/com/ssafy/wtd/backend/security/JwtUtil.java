@@ -1,6 +1,12 @@
 package com.ssafy.wtd.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,32 +16,71 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
 
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+
     private final SecretKey secretKey;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    // 불변 / thread-safe → 요청마다 만들지 않고 재사용
+    private final JwtParser parser;
+
+    // 토큰 해시 → 검증된 claims (토큰의 exp 시각에 만료, 검증 실패 토큰은 보관하지 않음)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, token.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, token, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     /* =========================
      * Access Token 생성
+     * (CustomUserDetails 면 userId / role 도 claims 에 포함)
      * ========================= */
     public String generateAccessToken(UserDetails userDetails) {
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(userDetails.getUsername())   // email
                 .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
+                .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration));
+        if (userDetails instanceof CustomUserDetails customUser) {
+            builder.claim(CLAIM_USER_ID, customUser.getUserId())
+                    .claim(CLAIM_ROLE, customUser.getRole());
+        }
+        return builder
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
@@ -44,7 +89,9 @@ public class JwtUtil {
      * Refresh Token 생성
      * ========================= */
     public String generateRefreshToken(UserDetails userDetails) {
+        // iat 은 초 단위라 같은 초에 발급하면 내용이 같아지므로 jti 로 토큰마다 고유하게 (hash unique key / rotation)
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
@@ -52,6 +99,41 @@ public class JwtUtil {
                 .compact();
     }
 
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
+    }
+
+    /* =========================
+     * 토큰 검증 (요청당 1회)
+     * 서명 + 만료를 한 번에 확인, 같은 토큰은 exp 까지 캐시된 결과 사용
+     * ========================= */
+    public VerifiedToken verify(String token) {
+        String key = TokenHashes.sha256(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached.isExpired() ? null : cached;
+        }
+
+        Claims claims;
+        try {
+            claims = extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;   // 서명 불일치 / 만료 / 형식 오류
+        }
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
+        }
+
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                userId != null ? userId.longValue() : null,
+                claims.get(CLAIM_ROLE, String.class),
+                claims.getExpiration().getTime());
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
     /* =========================
      * JWT에서 email(subject) 추출
      * ========================= */
@@ -63,27 +145,16 @@ public class JwtUtil {
      * 토큰 유효성 검증
      * ========================= */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String email = extractEmail(token);
-        return email.equals(userDetails.getUsername()) && !isTokenExpired(token);
-    }
-
-    /* =========================
-     * 토큰 만료 여부 확인
-     * ========================= */
-    private boolean isTokenExpired(String token) {
-        return extractAllClaims(token)
-                .getExpiration()
-                .before(new Date());
+        VerifiedToken verified = verify(token);
+        return verified != null && verified.email().equals(userDetails.getUsername());
     }
 
     /* =========================
      * Claims 파싱 (🔥 0.13.0 핵심 변경점)
      * ========================= */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)  // 서명된 JWT 파싱
+        return parser
+                .parseSignedClaims(token)  // 서명된 JWT 파싱 (만료 시 ExpiredJwtException)
                 .getPayload();
     }
 }
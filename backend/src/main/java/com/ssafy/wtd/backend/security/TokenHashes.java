@@ -0,0 +1,27 @@
+package com.ssafy.wtd.backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 보관 / 비교할 SHA-256 해시
+ */
+public final class TokenHashes {
+
+    private TokenHashes() {
+    }
+
+    /**
+     * SHA-256 → base64url (패딩 없음, 43자)
+     */
+    public static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ssafy.wtd.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * email → CustomUserDetails 단기 캐시
+ * - JWT 필터가 매 요청 사용자를 DB 에서 읽지 않도록 보관 (TTL 은 짧게, 다른 서버에서의 변경 반영 한도)
+ * - 상태 / 비밀번호 / 이메일을 바꾸는 쪽에서 evict 해 같은 서버에서는 즉시 반영
+ *   (트랜잭션 안에서 호출하면 커밋 후에 한 번 더 제거 → 커밋 전에 다른 요청이 옛 row 를 다시 캐시해도 남지 않음)
+ * - CustomUserDetails 는 CredentialsContainer 가 아니므로 로그인 후 password 가 지워지지 않음 (공유해도 안전)
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, CustomUserDetails> cache;
+
+    public UserDetailsCache(
+            @Value("${security.user-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${security.user-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * @return loader 가 null 을 반환하면 null (캐시하지 않음)
+     */
+    public CustomUserDetails get(String email, Function<String, CustomUserDetails> loader) {
+        return cache.get(email, loader);
+    }
+
+    public void evict(String email) {
+        cache.invalidate(email);
+        afterCommit(() -> cache.invalidate(email));
+    }
+
+    /**
+     * userId 로 제거 (이메일 변경 등 email 을 모르는 경우, 보관 수만큼 scan)
+     */
+    public void evictByUserId(Long userId) {
+        removeByUserId(userId);
+        afterCommit(() -> removeByUserId(userId));
+    }
+
+    private void removeByUserId(Long userId) {
+        cache.asMap().values().removeIf(user -> user.getUserId().equals(userId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
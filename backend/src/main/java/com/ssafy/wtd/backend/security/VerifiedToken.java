@@ -0,0 +1,12 @@
+package com.ssafy.wtd.backend.security;
+
+/**
+ * 서명 / 만료 검증을 통과한 access token 의 claims
+ * (userId / role 은 이전 버전 토큰에는 없으므로 null 가능)
+ */
+public record VerifiedToken(String email, Long userId, String role, long expiresAtMillis) {
+
+    public boolean isExpired() {
+        return expiresAtMillis <= System.currentTimeMillis();
+    }
+}
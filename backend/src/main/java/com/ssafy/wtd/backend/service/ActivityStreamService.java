@@ -0,0 +1,310 @@
+package com.ssafy.wtd.backend.service;
+
+import com.ssafy.wtd.backend.dto.activity.ActivityRecommendReq;
+import com.ssafy.wtd.backend.dto.activity.ActivityRecommendRes;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 활동 추천 스트리밍 (SSE, /activities/recommend/stream)
+ * - 후보 수집까지는 일반 추천과 같고, AI 응답은 stream() 으로 받아 JSON 배열의 장소가 완성될 때마다 "place" 이벤트로 전송
+ * - 각 장소는 카카오 후보 목록에 있는 이름만 통과 (목록에 없는 장소 / 중복은 버림), 거리 / 이동 시간은 후보 값으로 교체
+ * - 끝나면 "done" (count), 실패하면 "error" 이벤트 후 종료
+ * - 같은 후보 / 조건의 추천이 캐시에 있거나 계산 중이면 AI 호출 없이 그 결과를 전송
+ *   스트리밍도 시작 전에 계산 중으로 등록하고, 끝나면 그 항목을 결과로 완료 (중단 / 실패 시 제거)
+ * - 클라이언트가 끊으면 AI 스트림 구독도 취소
+ */
+@Slf4j
+@Service
+public class ActivityStreamService {
+
+    private static final String EVENT_PLACE = "place";
+    private static final String EVENT_DONE = "done";
+    private static final String EVENT_ERROR = "error";
+
+    private final ActivityService activityService;
+    private final RecommendationCache recommendationCache;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor workers;
+
+    // 응답 형식 지시문은 call().entity() 와 같은 것을 사용, 장소 1건씩 같은 방식으로 변환
+    private final BeanOutputConverter<List<ActivityRecommendRes.PlaceInfo>> listConverter =
+            new BeanOutputConverter<>(new ParameterizedTypeReference<List<ActivityRecommendRes.PlaceInfo>>() {
+            });
+    private final BeanOutputConverter<ActivityRecommendRes.PlaceInfo> placeConverter =
+            new BeanOutputConverter<>(ActivityRecommendRes.PlaceInfo.class);
+
+    public ActivityStreamService(
+            ActivityService activityService,
+            RecommendationCache recommendationCache,
+            @Value("${activity.stream.threads:8}") int threads,
+            @Value("${activity.stream.queue-capacity:32}") int queueCapacity,
+            @Value("${activity.stream.timeout-ms:120000}") long timeoutMs) {
+        this.activityService = activityService;
+        this.recommendationCache = recommendationCache;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "activity-stream-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * 스트리밍 추천 시작 (후보 수집은 worker 에서, 대기열이 가득 차면 503)
+     */
+    public SseEmitter stream(ActivityRecommendReq req) {
+        log.info("AI 스트리밍 추천 요청 수신 - [lat={}, lng={}]", req.getLatitude(), req.getLongitude());
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Session session = new Session(emitter);
+        emitter.onCompletion(session::cancel);
+        emitter.onTimeout(session::cancel);
+        emitter.onError(e -> session.cancel());
+
+        try {
+            workers.execute(() -> run(req, session));
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "추천 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return emitter;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void run(ActivityRecommendReq req, Session session) {
+        ActivityService.RecommendationContext ctx;
+        try {
+            ctx = activityService.prepare(req);
+        } catch (Exception e) {
+            session.fail(e);
+            return;
+        }
+        if (ctx.candidates().isEmpty()) {
+            session.finish();
+            return;
+        }
+        session.candidates(ctx.candidates());
+
+        // 먼저 계산 중으로 등록한 요청만 AI 를 호출하고, 같은 key 의 다른 요청은 그 결과를 기다림
+        CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> inFlight = recommendationCache.begin(ctx.cacheKey());
+        if (inFlight != null) {
+            streamFromAi(req, ctx, session, inFlight);
+            return;
+        }
+        CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> cached = recommendationCache.find(ctx.cacheKey());
+        if (cached == null) {
+            // 등록 확인 직후 실패 / 만료로 제거됨
+            streamFromAi(req, ctx, session, recommendationCache.begin(ctx.cacheKey()));
+            return;
+        }
+        // 계산 중이면 worker 를 잡지 않고 완료 시 전송, 실패했거나 빈 결과면 새로 스트리밍
+        cached.whenComplete((places, e) -> {
+            if (e != null || places == null || places.isEmpty()) {
+                streamFromAi(req, ctx, session, recommendationCache.begin(ctx.cacheKey()));
+                return;
+            }
+            log.info("AI 스트리밍 추천 캐시 적중: {}개 장소", places.size());
+            places.forEach(session::accept);
+            session.finish();
+        });
+    }
+
+    /**
+     * @param inFlight 캐시에 계산 중으로 등록한 항목 (다른 요청이 이미 등록했으면 null, 이때는 끝난 뒤 저장만 함)
+     */
+    private void streamFromAi(ActivityRecommendReq req, ActivityService.RecommendationContext ctx, Session session,
+                              CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> inFlight) {
+        session.inFlight(inFlight);
+        if (session.isClosed()) {
+            return;
+        }
+        log.info("AI 스트리밍 호출 중... (후보지: {}개)", ctx.candidates().size());
+
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+        try {
+            Disposable subscription = activityService
+                    .prompt(req, ctx.weather(), ctx.candidates(), listConverter.getFormat())
+                    .stream()
+                    .content()
+                    .subscribe(
+                            chunk -> scanner.feed(chunk).forEach(json -> session.accept(convert(json))),
+                            session::fail,
+                            () -> {
+                                List<ActivityRecommendRes.PlaceInfo> emitted = session.emitted();
+                                log.info("AI 스트리밍 추천 완료: {}개 장소 선정", emitted.size());
+                                if (inFlight != null) {
+                                    // 빈 결과는 null 로 완료 → 캐시에서 제거
+                                    inFlight.complete(emitted.isEmpty() ? null : List.copyOf(emitted));
+                                } else {
+                                    recommendationCache.put(ctx.cacheKey(), emitted);
+                                }
+                                session.finish();
+                            });
+            session.subscription(subscription);
+        } catch (Exception e) {
+            session.fail(e);
+        }
+    }
+
+    private ActivityRecommendRes.PlaceInfo convert(String json) {
+        try {
+            return placeConverter.convert(json);
+        } catch (RuntimeException e) {
+            log.warn("AI 스트리밍 응답 중 장소 변환 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 구독 1건의 전송 상태
+     */
+    private static final class Session {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final Set<String> emittedNames = new HashSet<>();
+        private final List<ActivityRecommendRes.PlaceInfo> emitted = new ArrayList<>();
+        private Map<Object, Map<String, Object>> byName = Map.of();
+        private volatile Disposable subscription;
+        private volatile CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> inFlight;
+
+        Session(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void candidates(List<Map<String, Object>> candidates) {
+            Map<Object, Map<String, Object>> map = new HashMap<>();
+            for (Map<String, Object> p : candidates) {
+                map.put(p.get("name"), p);
+            }
+            this.byName = map;
+        }
+
+        void subscription(Disposable subscription) {
+            this.subscription = subscription;
+            if (closed.get()) {
+                subscription.dispose();
+            }
+        }
+
+        void inFlight(CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> inFlight) {
+            this.inFlight = inFlight;
+            if (closed.get()) {
+                release();
+            }
+        }
+
+        boolean isClosed() {
+            return closed.get();
+        }
+
+        synchronized List<ActivityRecommendRes.PlaceInfo> emitted() {
+            return new ArrayList<>(emitted);
+        }
+
+        /**
+         * 후보 목록 검증 후 전송 (목록에 없는 장소 / 이미 보낸 장소는 버림)
+         */
+        synchronized void accept(ActivityRecommendRes.PlaceInfo place) {
+            if (place == null || closed.get()) {
+                return;
+            }
+            Map<String, Object> candidate = byName.get(place.getPlaceName());
+            if (candidate == null) {
+                log.warn("후보 목록에 없는 장소 제외: {}", place.getPlaceName());
+                return;
+            }
+            if (!emittedNames.add(place.getPlaceName())) {
+                return;
+            }
+            ActivityRecommendRes.PlaceInfo verified = place.toBuilder()
+                    .distanceMeter((Integer) candidate.get("dist"))
+                    .travelTimeMin((Integer) candidate.get("time"))
+                    .build();
+            emitted.add(verified);
+            send(SseEmitter.event().name(EVENT_PLACE).data(verified, MediaType.APPLICATION_JSON));
+        }
+
+        synchronized void finish() {
+            send(SseEmitter.event().name(EVENT_DONE).data(Map.of("count", emitted.size()), MediaType.APPLICATION_JSON));
+            if (closed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+
+        synchronized void fail(Throwable e) {
+            log.error("AI 스트리밍 에러: {}", e.getMessage(), e);
+            send(SseEmitter.event().name(EVENT_ERROR).data("추천 서비스 일시 지연."));
+            if (closed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+            cancel();
+        }
+
+        /**
+         * 클라이언트 종료 / timeout → AI 스트림 취소
+         */
+        void cancel() {
+            closed.set(true);
+            Disposable current = subscription;
+            if (current != null) {
+                current.dispose();
+            }
+            release();
+        }
+
+        /**
+         * 끝까지 받지 못한 계산 중 항목은 실패로 완료 → 캐시에서 제거, 기다리던 요청은 새로 스트리밍
+         * (정상 완료된 뒤에는 아무 영향 없음)
+         */
+        private void release() {
+            CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> current = inFlight;
+            if (current != null) {
+                current.completeExceptionally(new CancellationException("추천 스트리밍이 중단되었습니다."));
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 이미 끊음
+                cancel();
+            }
+        }
+    }
+}
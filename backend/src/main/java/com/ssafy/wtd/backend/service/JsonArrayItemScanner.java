@@ -0,0 +1,68 @@
+package com.ssafy.wtd.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍으로 조각나서 들어오는 JSON 배열에서 최상위 object 를 완성되는 대로 잘라냄
+ * - 첫 '[' 이전(```json 같은 코드 펜스나 설명 문장)과 배열이 닫힌 뒤의 텍스트는 무시
+ * - 문자열 안의 괄호 / escape 는 깊이 계산에서 제외
+ * - 잘라낸 object 의 문법 검증은 하지 않음 (변환은 호출한 쪽에서)
+ * - 한 응답 스트림 전용 (thread-safe 하지 않음)
+ */
+final class JsonArrayItemScanner {
+
+    private final StringBuilder item = new StringBuilder();
+    private boolean inArray;
+    private boolean closed;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    /**
+     * @return 이번 조각으로 완성된 object 문자열 (없으면 빈 목록)
+     */
+    List<String> feed(String chunk) {
+        List<String> items = new ArrayList<>(1);
+        if (chunk == null || closed) {
+            return items;
+        }
+        for (int i = 0; i < chunk.length() && !closed; i++) {
+            char c = chunk.charAt(i);
+            if (!inArray) {
+                inArray = c == '[';
+                continue;
+            }
+            if (depth == 0) {
+                // 배열 바로 아래: object 시작 또는 배열 끝만 의미 있음 (',' / 공백 무시)
+                if (c == '{') {
+                    depth = 1;
+                    item.setLength(0);
+                    item.append(c);
+                } else if (c == ']') {
+                    closed = true;
+                }
+                continue;
+            }
+
+            item.append(c);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                items.add(item.toString());
+                item.setLength(0);
+            }
+        }
+        return items;
+    }
+}
@@ -1,5 +1,10 @@
 package com.ssafy.wtd.backend.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ssafy.wtd.backend.dto.activity.KakaoPlace;
+import com.ssafy.wtd.backend.dto.activity.PlaceSearchCacheStatsDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -11,35 +16,91 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.zip.GZIPInputStream;
 
+/**
+ * 카카오 로컬 키워드 검색
+ * - (정규화한 검색어, 좌표 격자, 반경) 단위로 결과를 캐시 → 같은 충전소 근처의 같은 검색은 호출 1번을 공유
+ * - 캐시 값은 격자 중심 기준 검색 결과 (처음 요청한 사람의 위치에 따라 달라지지 않도록)
+ *   격자 안 어디서 요청해도 요청 반경을 덮도록 반경을 격자 반대각선만큼 넓혀 검색하고,
+ *   요청 좌표 기준 반경 밖 장소는 PlaceCandidateService 가 거리 계산 후 제외
+ * - 호출 실패 / 키 미설정은 캐시하지 않음
+ */
 @Slf4j
 @Service
 public class KakaoLocalService {
 
+    // 카카오 키워드 검색 radius 상한 (m)
+    private static final int MAX_RADIUS_M = 20_000;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
     private final RestClient restClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final double cellDegrees;
+    private final long maxEntries;
+    private final Cache<SearchKey, List<KakaoPlace>> cache;
 
     @Value("${kakao.rest-api.key:MISSING}")
     private String restApiKey;
 
-    public KakaoLocalService(RestClient.Builder restClientBuilder) {
+    public KakaoLocalService(
+            RestClient.Builder restClientBuilder,
+            @Value("${kakao.search.cache.cell-degrees:0.002}") double cellDegrees,
+            @Value("${kakao.search.cache.ttl-minutes:60}") long ttlMinutes,
+            @Value("${kakao.search.cache.max-entries:20000}") long maxEntries) {
         this.restClient = restClientBuilder
                 .baseUrl("https://dapi.kakao.com/v2/local")
                 .build();
+        this.cellDegrees = cellDegrees;
+        this.maxEntries = maxEntries;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
     }
 
     /**
-     * 키워드로 주변 장소 검색
+     * 키워드로 주변 장소 검색 (캐시 우선, 같은 key 동시 요청은 호출 1번만)
      */
-    public List<Map<String, Object>> searchPlaces(String query, double lat, double lng, int radius) {
+    public List<KakaoPlace> searchPlaces(String query, double lat, double lng, int radius) {
         if ("MISSING".equals(restApiKey) || restApiKey.startsWith("${")) {
             log.error("CRITICAL: Kakao API Key is not set in application.yml or environment variables!");
             return Collections.emptyList();
         }
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        SearchKey key = new SearchKey(normalized, cellOf(lat), cellOf(lng), radius);
+        List<KakaoPlace> places = cache.get(key, this::fetch);
+        return places != null ? places : Collections.emptyList();
+    }
+
+    public PlaceSearchCacheStatsDto getCacheStats() {
+        CacheStats stats = cache.stats();
+        return new PlaceSearchCacheStatsDto(
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(),
+                stats.loadFailureCount(), cache.estimatedSize(), maxEntries);
+    }
+
+    /**
+     * 격자 중심 좌표로 카카오 검색 (반경은 격자 반대각선만큼 넓힘)
+     *
+     * @return 실패 시 null (캐시에 저장되지 않음)
+     */
+    private List<KakaoPlace> fetch(SearchKey key) {
+        String query = key.query();
+        double lat = (key.latCell() + 0.5) * cellDegrees;
+        double lng = (key.lngCell() + 0.5) * cellDegrees;
+        int radius = searchRadius(key.radius(), lat, cellDegrees);
 
         try {
             // 1. RAW byte[]로 수신하여 압축 여부 직접 확인
@@ -61,7 +122,7 @@ public class KakaoLocalService {
 
             if (responseBytes == null || responseBytes.length == 0) {
                 log.warn("Kakao API returned an empty body for query: {}", query);
-                return Collections.emptyList();
+                return null;
             }
 
             // 2. GZIP 압축 여부 확인 및 해제
@@ -80,7 +141,7 @@ public class KakaoLocalService {
             if (body != null && body.containsKey("documents")) {
                 @SuppressWarnings("unchecked")
                 List<Map<String, Object>> documents = (List<Map<String, Object>>) body.get("documents");
-                return documents;
+                return toPlaces(documents);
             } else if (body != null && body.containsKey("errorType")) {
                 log.error("Kakao API Business Error: {} - {}", body.get("errorType"), body.get("message"));
             }
@@ -103,7 +164,45 @@ public class KakaoLocalService {
             } catch (Exception ignored) {
             }
         }
-        return Collections.emptyList();
+        return null;
+    }
+
+    private static List<KakaoPlace> toPlaces(List<Map<String, Object>> documents) {
+        List<KakaoPlace> places = new ArrayList<>(documents.size());
+        for (Map<String, Object> d : documents) {
+            places.add(new KakaoPlace(
+                    (String) d.get("place_name"),
+                    (String) d.get("category_name"),
+                    (String) d.get("address_name"),
+                    Double.parseDouble(d.get("y").toString()),
+                    Double.parseDouble(d.get("x").toString()),
+                    (String) d.get("phone"),
+                    (String) d.get("place_url")));
+        }
+        return List.copyOf(places);
+    }
+
+    /**
+     * 대소문자 / 앞뒤·연속 공백 차이는 같은 검색으로 취급
+     */
+    private static String normalize(String query) {
+        return query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 격자 중심에서 검색해도 격자 안 모든 지점의 반경 radius 원을 포함하는 검색 반경
+     */
+    static int searchRadius(int radius, double centerLat, double cellDegrees) {
+        double halfLatM = cellDegrees / 2 * METERS_PER_DEGREE;
+        double halfLngM = halfLatM * Math.cos(Math.toRadians(centerLat));
+        return (int) Math.min(MAX_RADIUS_M, radius + Math.ceil(Math.hypot(halfLatM, halfLngM)));
+    }
+
+    private long cellOf(double degrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private record SearchKey(String query, long latCell, long lngCell, int radius) {
     }
 
     private boolean isGZipped(byte[] data) {
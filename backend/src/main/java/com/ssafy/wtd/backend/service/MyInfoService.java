@@ -5,6 +5,7 @@ import com.ssafy.wtd.backend.dto.user.MyInfoUpdateReq;
 import com.ssafy.wtd.backend.model.User;
 import com.ssafy.wtd.backend.repository.RefreshTokenRepository;
 import com.ssafy.wtd.backend.repository.UserRepository;
+import com.ssafy.wtd.backend.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -16,6 +17,7 @@ public class MyInfoService {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final UserDetailsCache userDetailsCache;
     private final com.ssafy.wtd.backend.repository.CarbonRepository carbonRepository;
     private final org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
 
@@ -72,6 +74,8 @@ public class MyInfoService {
                 updatedEmail,
                 updatedName);
 
+        userDetailsCache.evictByUserId(userId);
+
         if (updatedCount == 0) {
             throw new ResponseStatusException(
                     HttpStatus.INTERNAL_SERVER_ERROR,
@@ -98,6 +102,7 @@ public class MyInfoService {
         }
 
         userRepository.disableUser(userId);
+        userDetailsCache.evictByUserId(userId);
 
         // Refresh Token 무효화
         refreshTokenRepository.deleteByUserId(userId);
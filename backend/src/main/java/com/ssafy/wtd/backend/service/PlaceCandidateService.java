@@ -0,0 +1,186 @@
+package com.ssafy.wtd.backend.service;
+
+import com.ssafy.wtd.backend.dto.activity.KakaoPlace;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 활동 추천 후보 장소 수집 (카카오 키워드 검색 fan-out)
+ * - 키워드별 검색을 전용 풀(bulkhead)에서 동시에 호출, 요청당 동시 호출 수는 max-concurrent-per-request 로 제한
+ * - 검색 결과는 완료 순서가 아닌 키워드 순서대로 장소 이름 기준 중복 제거하며 합치고, limit 이상 모이면 남은 검색은 취소
+ * - 검색은 격자 중심 기준으로 넓혀 캐시되므로 요청 좌표에서 radius 를 넘는 장소는 합칠 때 제외
+ *   (같은 키워드 목록이면 항상 같은 후보가 모여 추천 캐시 키가 안정적)
+ * - 요청당 deadline 이 지나면 그때까지 모인 후보만 사용
+ * - 풀과 대기열이 모두 차면 요청 스레드에서 직접 호출 (느려질 뿐 실패하지 않음)
+ */
+@Slf4j
+@Service
+public class PlaceCandidateService {
+
+    // 도보로 이동하는 데 걸리는 시간을 계산하기 위한 기준값
+    private static final int WALKING_SPEED_M_PER_MIN = 80;
+
+    private final KakaoLocalService kakaoLocalService;
+    private final ThreadPoolExecutor bulkhead;
+    private final int maxConcurrentPerRequest;
+    private final long timeoutNanos;
+
+    public PlaceCandidateService(
+            KakaoLocalService kakaoLocalService,
+            @Value("${kakao.search.threads:16}") int threads,
+            @Value("${kakao.search.queue-capacity:64}") int queueCapacity,
+            @Value("${kakao.search.max-concurrent-per-request:6}") int maxConcurrentPerRequest,
+            @Value("${kakao.search.timeout-ms:3000}") long timeoutMs) {
+        this.kakaoLocalService = kakaoLocalService;
+        this.maxConcurrentPerRequest = Math.max(1, maxConcurrentPerRequest);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        AtomicInteger seq = new AtomicInteger();
+        this.bulkhead = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "kakao-search-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 키워드별 주변 장소를 모아 후보 목록으로 변환 (name, cat, addr, dist, time, lat, lng, phone, url)
+     *
+     * @param limit 이 수 이상 모이면 남은 검색 취소 (마지막으로 합친 검색 결과까지는 포함)
+     */
+    public List<Map<String, Object>> collect(List<String> keywords, double lat, double lng, int radius, int limit) {
+        List<String> queries = new ArrayList<>(new LinkedHashSet<>(keywords));
+        CompletionService<List<KakaoPlace>> completion = new ExecutorCompletionService<>(bulkhead);
+        Map<Future<List<KakaoPlace>>, Integer> futures = new HashMap<>();
+        // 완료 순서와 무관하게 키워드 순서대로 합치기 위해 끝난 검색 결과를 키워드 위치에 보관
+        List<List<KakaoPlace>> results = new ArrayList<>(Collections.nCopies(queries.size(), null));
+
+        long deadline = System.nanoTime() + timeoutNanos;
+        int next = 0;
+        int running = 0;
+        while (next < queries.size() && running < maxConcurrentPerRequest) {
+            futures.put(submit(completion, queries.get(next), lat, lng, radius), next++);
+            running++;
+        }
+
+        List<Map<String, Object>> places = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        int merged = 0;
+        try {
+            while (running > 0 && places.size() < limit) {
+                long remaining = deadline - System.nanoTime();
+                Future<List<KakaoPlace>> done = remaining > 0
+                        ? completion.poll(remaining, TimeUnit.NANOSECONDS)
+                        : null;
+                if (done == null) {
+                    log.warn("[KAKAO] Place search deadline exceeded ({} of {} keywords pending, {} places collected)",
+                            running + queries.size() - next, queries.size(), places.size());
+                    break;
+                }
+                running--;
+                results.set(futures.get(done), result(done));
+
+                // 앞선 키워드가 모두 끝난 만큼만 합침 -> 같은 키워드 목록이면 항상 같은 후보에서 끊김
+                while (merged < queries.size() && results.get(merged) != null && places.size() < limit) {
+                    merge(results.get(merged++), names, places, lat, lng, radius);
+                }
+
+                if (next < queries.size() && places.size() < limit) {
+                    futures.put(submit(completion, queries.get(next), lat, lng, radius), next++);
+                    running++;
+                }
+            }
+            // deadline 으로 끊긴 경우 앞 키워드가 늦어도 이미 끝난 뒤 키워드 결과는 키워드 순서대로 사용
+            for (int i = merged; i < results.size() && places.size() < limit; i++) {
+                if (results.get(i) != null) {
+                    merge(results.get(i), names, places, lat, lng, radius);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 아직 끝나지 않은 검색은 결과가 필요 없으므로 취소 (대기열에 있던 작업은 실행되지 않음)
+            futures.keySet().forEach(f -> f.cancel(true));
+        }
+        return places;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bulkhead.shutdownNow();
+    }
+
+    private Future<List<KakaoPlace>> submit(CompletionService<List<KakaoPlace>> completion,
+                                                     String query, double lat, double lng, int radius) {
+        return completion.submit(() -> kakaoLocalService.searchPlaces(query, lat, lng, radius));
+    }
+
+    private static List<KakaoPlace> result(Future<List<KakaoPlace>> done) {
+        try {
+            return done.get();
+        } catch (ExecutionException e) {
+            log.warn("[KAKAO] Place search failed: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return List.of();
+    }
+
+    private static void merge(List<KakaoPlace> results, Set<String> names,
+                              List<Map<String, Object>> places, double lat, double lng, int radius) {
+        if (results == null) {
+            return;
+        }
+        for (KakaoPlace r : results) {
+            // 거리 계산 (검색 결과는 격자 단위로 캐시되므로 거리는 요청 좌표 기준으로 계산)
+            int dist = calculateHaversineDistance(lat, lng, r.lat(), r.lng());
+            // 반경 밖 장소는 이름을 등록하지 않음 (뒤 키워드의 반경 안 같은 이름 장소를 막지 않도록)
+            if (dist > radius || !names.add(r.name())) {
+                continue;
+            }
+            // 시간 계산 (ex. 도보 5분)
+            int time = (int) Math.ceil((double) dist / WALKING_SPEED_M_PER_MIN);
+
+            Map<String, Object> p = new HashMap<>();
+            p.put("name", r.name());
+            p.put("cat", r.category());
+            p.put("addr", r.address());
+            p.put("dist", dist);
+            p.put("time", time);
+            p.put("lat", r.lat());
+            p.put("lng", r.lng());
+            p.put("phone", r.phone());
+            p.put("url", r.url());
+            places.add(p);
+        }
+    }
+
+    private static int calculateHaversineDistance(double lat1, double lon1, double lat2, double lon2) {
+        double R = 6371e3;
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                        Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return (int) Math.round(R * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a)));
+    }
+}
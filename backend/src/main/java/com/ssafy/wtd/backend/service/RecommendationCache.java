@@ -0,0 +1,156 @@
+package com.ssafy.wtd.backend.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.wtd.backend.dto.activity.ActivityRecommendReq;
+import com.ssafy.wtd.backend.dto.activity.ActivityRecommendRes;
+import com.ssafy.wtd.backend.dto.activity.WeatherInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * AI 활동 추천 결과 캐시
+ * - key: 후보 장소 집합(이름 + 주소) 과 정규화한 요청 조건(목적, 장소, 이동 수단, 인원, 충전 시간, 친환경, 선호, 날씨) 의 SHA-256
+ *   → 같은 충전소 근처에서 같은 조건으로 다시 요청하면 AI 호출 없이 응답
+ * - 같은 key 가 계산 중이면 새로 호출하지 않고 진행 중인 결과를 기다림 (stampede 방지)
+ * - 실패 / 빈 결과는 저장하지 않음
+ * - 거리 / 이동 시간은 요청 위치마다 다르므로 key 에 넣지 않고, 응답 시 요청자 기준 값으로 교체 (ActivityService)
+ */
+@Component
+public class RecommendationCache {
+
+    private final AsyncCache<String, List<ActivityRecommendRes.PlaceInfo>> cache;
+
+    public RecommendationCache(
+            @Value("${activity.recommend-cache.ttl-minutes:15}") long ttlMinutes,
+            @Value("${activity.recommend-cache.max-entries:2000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .buildAsync();
+    }
+
+    /**
+     * 캐시 조회, 없으면 호출한 스레드에서 loader 실행 (AI 호출을 캐시 내부 lock / 공용 풀에서 하지 않음)
+     */
+    public List<ActivityRecommendRes.PlaceInfo> get(String key, Supplier<List<ActivityRecommendRes.PlaceInfo>> loader) {
+        CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> mine = new CompletableFuture<>();
+        CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> shared = cache.get(key, (k, executor) -> mine);
+        if (shared != mine) {
+            try {
+                List<ActivityRecommendRes.PlaceInfo> cached = shared.join();
+                return cached != null ? cached : List.of();
+            } catch (CompletionException | CancellationException e) {
+                // 기다리던 계산이 실패 / 중단됨 (스트리밍 클라이언트 종료 등) → 직접 호출
+                List<ActivityRecommendRes.PlaceInfo> result = loader.get();
+                put(key, result);
+                return result;
+            }
+        }
+
+        try {
+            List<ActivityRecommendRes.PlaceInfo> result = loader.get();
+            // null 로 완료된 항목은 캐시에서 제거됨
+            mine.complete(result == null || result.isEmpty() ? null : List.copyOf(result));
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 스트리밍 추천 시작 등록 (같은 key 가 없을 때만 계산 중 항목으로 넣고 반환, 이미 있으면 null)
+     * - 반환된 future 를 결과로 완료하면 저장되고, null / 예외로 완료하면 제거되어 기다리던 요청은 새로 호출
+     */
+    public CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> begin(String key) {
+        CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> mine = new CompletableFuture<>();
+        return cache.asMap().putIfAbsent(key, mine) == null ? mine : null;
+    }
+
+    /**
+     * 완료되었거나 계산 중인 결과 (없으면 null, 스트리밍 추천용)
+     */
+    public CompletableFuture<List<ActivityRecommendRes.PlaceInfo>> find(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * 스트리밍으로 끝까지 받은 추천 저장 (빈 결과는 저장하지 않음)
+     */
+    public void put(String key, List<ActivityRecommendRes.PlaceInfo> places) {
+        if (places != null && !places.isEmpty()) {
+            cache.put(key, CompletableFuture.completedFuture(List.copyOf(places)));
+        }
+    }
+
+    /**
+     * 요청 조건 + 후보 장소 집합의 정규화 key
+     */
+    public static String key(ActivityRecommendReq req, WeatherInfo weather, List<Map<String, Object>> candidates) {
+        StringBuilder sb = new StringBuilder(candidates.size() * 48);
+        sb.append("p=").append(sorted(req.getPurposes()))
+                .append("|l=").append(sorted(req.getLocations()))
+                .append("|pt=").append(req.isPublicTransport())
+                .append("|n=").append(req.getPersonCount())
+                .append("|t=").append(req.getChargingTime())
+                .append("|eco=").append(req.isEcoFriendly())
+                .append("|pref=").append(normalize(req.getPreferences()))
+                .append("|w=").append(normalize(weather.getDescription()))
+                .append(',').append(Math.round(weather.getTemp()));
+
+        List<String> places = new ArrayList<>(candidates.size());
+        for (Map<String, Object> p : candidates) {
+            places.add(p.get("name") + "\u0001" + p.get("addr"));
+        }
+        places.sort(null);
+        sb.append("|c=");
+        for (String place : places) {
+            sb.append(place).append('\u0002');
+        }
+        return sha256(sb.toString());
+    }
+
+    private static String sorted(Collection<String> values) {
+        if (values == null) {
+            return "";
+        }
+        TreeSet<String> set = new TreeSet<>();
+        for (String value : values) {
+            String normalized = normalize(value);
+            if (!normalized.isEmpty()) {
+                set.add(normalized);
+            }
+        }
+        return String.join(",", set);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,27 +1,84 @@
 package com.ssafy.wtd.backend.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ssafy.wtd.backend.config.RestTemplateConfig;
 import com.ssafy.wtd.backend.dto.activity.WeatherInfo;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * 현재 날씨 (OpenWeather)
+ * - 좌표를 격자(기본 0.05도, 약 5km) 로 묶어 캐시 → 같은 격자의 요청은 OpenWeather 호출 1번을 공유
+ * - 같은 격자를 동시에 요청하면 한 스레드만 호출하고 나머지는 그 결과를 기다림 (single-flight)
+ * - refresh 주기가 지난 격자는 다음 조회 때 이전 값을 바로 돌려주고 백그라운드에서 갱신
+ *   (자주 조회되는 격자는 만료되기 전에 계속 갱신됨, 갱신 실패 시 이전 값 유지)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class WeatherService {
-    @Value("${weather.api.key}")
-    private String apiKey;
+
+    private final RestTemplate restTemplate;
+    private final String apiKey;
+    private final double cellDegrees;
+    private final LoadingCache<Long, WeatherInfo> cache;
+
+    public WeatherService(
+            @Qualifier(RestTemplateConfig.WEATHER) RestTemplate restTemplate,
+            @Value("${weather.api.key}") String apiKey,
+            @Value("${weather.cache.cell-degrees:0.05}") double cellDegrees,
+            @Value("${weather.cache.ttl-minutes:10}") long ttlMinutes,
+            @Value("${weather.cache.refresh-minutes:8}") long refreshMinutes,
+            @Value("${weather.cache.max-cells:5000}") long maxCells) {
+        this.restTemplate = restTemplate;
+        this.apiKey = apiKey;
+        this.cellDegrees = cellDegrees;
+
+        ExecutorService refreshPool = Executors.newFixedThreadPool(2, r -> {
+            Thread t = new Thread(r, "weather-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxCells)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .refreshAfterWrite(Duration.ofMinutes(refreshMinutes))
+                .executor(refreshPool)
+                .build(this::fetchCell);
+    }
 
     public WeatherInfo getCurrentWeather(double lat, double lon) {
-        String url = String.format(
+        return cache.get(cellKey(cellOf(lat), cellOf(lon)));
+    }
+
+    /**
+     * 격자 중심 좌표의 날씨 조회 (캐시 값이 처음 요청한 사람의 위치에 따라 달라지지 않도록)
+     */
+    private WeatherInfo fetchCell(Long key) {
+        long row = key >> 32;
+        long col = (int) (key & 0xffffffffL);
+        double lat = (row + 0.5) * cellDegrees;
+        double lon = (col + 0.5) * cellDegrees;
+        log.debug("[WEATHER] Fetch cell ({}, {})", lat, lon);
+        return fetch(lat, lon);
+    }
+
+    private WeatherInfo fetch(double lat, double lon) {
+        String url = String.format(Locale.ROOT,
                 "https://api.openweathermap.org/data/2.5/weather?lat=%f&lon=%f&appid=%s&units=metric&lang=kr",
                 lat, lon, apiKey
         );
 
-        RestTemplate restTemplate = new RestTemplate();
         Map<String, Object> response = restTemplate.getForObject(url, Map.class);
 
         // 1. 날씨 설명 (weather list의 첫 번째 요소)
@@ -60,4 +117,12 @@ public class WeatherService {
                 .precipitation(precipitation)
                 .build();
     }
+
+    private long cellOf(double degrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
 }
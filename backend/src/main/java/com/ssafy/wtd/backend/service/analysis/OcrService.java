@@ -1,6 +1,7 @@
 package com.ssafy.wtd.backend.service.analysis;
 
-import lombok.RequiredArgsConstructor;
+import com.ssafy.wtd.backend.config.RestTemplateConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -12,7 +13,6 @@ import org.springframework.web.multipart.MultipartFile;
 import java.util.*;
 
 @Service
-@RequiredArgsConstructor
 public class OcrService {
 
     @Value("${clova.ocr.invoke.url}")
@@ -21,10 +21,24 @@ public class OcrService {
     @Value("${clova.ocr.secret.key}")
     private String secretKey;
 
+    // OCR 전용 커넥션 풀 RestTemplate (공공데이터 API 동기화와 풀 / timeout 분리)
+    private final RestTemplate restTemplate;
+
+    public OcrService(@Qualifier(RestTemplateConfig.OCR) RestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
     public String callClovaOcr(MultipartFile file) throws Exception {
+        return callClovaOcr(file.getBytes(), file.getOriginalFilename());
+    }
+
+    /**
+     * 이미지 바이트로 호출 (비동기 작업처럼 요청이 끝난 뒤 MultipartFile 을 쓸 수 없는 경우)
+     */
+    public String callClovaOcr(byte[] image, String fileName) {
         // 1. 이미지 인코딩 및 확장자 추출
-        String base64Image = Base64.getEncoder().encodeToString(file.getBytes());
-        String extension = getExtension(file.getOriginalFilename());
+        String base64Image = Base64.getEncoder().encodeToString(image);
+        String extension = getExtension(fileName);
 
         // 2. 요청 바디 구성 (Map 사용)
         Map<String, Object> requestBody = new HashMap<>();
@@ -47,7 +61,6 @@ public class OcrService {
 
         // 4. API 호출 (RestTemplate이 Map을 JSON으로 자동 변환)
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-        RestTemplate restTemplate = new RestTemplate();
 
         return restTemplate.postForObject(invokeUrl, entity, String.class);
     }
@@ -0,0 +1,149 @@
+package com.ssafy.wtd.backend.service.analysis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ssafy.wtd.backend.dto.charge.ImageParsingRes;
+import com.ssafy.wtd.backend.dto.charge.OcrJobRes;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 영수증 OCR 비동기 작업
+ * - 업로드 요청은 검증 + 이미지 복사 후 jobId 만 바로 반환 (요청 스레드 / DB 커넥션을 OCR 동안 잡지 않음)
+ * - 고정 크기 worker 풀이 트랜잭션 밖에서 Clova OCR 호출, 대기열이 가득 차면 503
+ * - 결과는 메모리 캐시에 보관 후 일정 시간이 지나면 제거 (클라이언트는 jobId 로 폴링)
+ * - 작업은 등록한 사용자만 조회 가능 (다른 사용자의 jobId 는 없는 작업과 같이 404)
+ */
+@Slf4j
+@Service
+public class ReceiptOcrJobService {
+
+    private final RecordService recordService;
+    private final ThreadPoolExecutor workers;
+    private final Cache<String, Job> jobs;
+
+    public ReceiptOcrJobService(
+            RecordService recordService,
+            @Value("${clova.ocr.job.worker-threads:4}") int workerThreads,
+            @Value("${clova.ocr.job.queue-capacity:100}") int queueCapacity,
+            @Value("${clova.ocr.job.retention-minutes:30}") long retentionMinutes) {
+        this(recordService, workerThreads, queueCapacity, retentionMinutes, Ticker.systemTicker());
+    }
+
+    // 테스트에서 보관 시간 만료를 재현하기 위한 ticker 주입
+    ReceiptOcrJobService(RecordService recordService, int workerThreads, int queueCapacity,
+                         long retentionMinutes, Ticker ticker) {
+        this.recordService = recordService;
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "receipt-ocr-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 작업 등록 (검증 실패는 기존 동기 API 와 같은 예외)
+     */
+    public OcrJobRes submit(Long recordId, MultipartFile imageFile, Long userId) {
+        recordService.validateReceiptUpload(recordId, imageFile);
+
+        // 요청이 끝나면 업로드 임시 파일이 지워지므로 바이트를 먼저 복사
+        byte[] image;
+        try {
+            image = imageFile.getBytes();
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "이미지를 읽을 수 없습니다.");
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), recordId, userId, LocalDateTime.now());
+        // worker 가 바로 RUNNING 으로 바꿀 수 있으므로 등록 시점(PENDING) 응답을 먼저 만든다
+        OcrJobRes accepted = job.toRes();
+        jobs.put(job.id, job);
+        try {
+            workers.execute(() -> run(job, image, imageFile.getOriginalFilename()));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.id);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "영수증 분석 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return accepted;
+    }
+
+    public OcrJobRes getJob(String jobId, Long userId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "분석 작업을 찾을 수 없습니다.");
+        }
+        return job.toRes();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void run(Job job, byte[] image, String fileName) {
+        job.status = JobStatus.RUNNING;
+        try {
+            job.result = recordService.parseReceipt(job.recordId, image, fileName);
+            job.status = JobStatus.DONE;
+        } catch (Exception e) {
+            log.warn("[OCR] Receipt job failed (jobId={}, recordId={}): {}", job.id, job.recordId, e.getMessage());
+            job.message = e.getMessage();
+            job.status = JobStatus.FAILED;
+        }
+    }
+
+    private enum JobStatus {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    private static final class Job {
+
+        private final String id;
+        private final Long recordId;
+        private final Long userId;
+        private final LocalDateTime createdAt;
+
+        // worker 스레드가 쓰고 폴링 요청이 읽음 (status 를 마지막에 기록)
+        private volatile JobStatus status = JobStatus.PENDING;
+        private volatile ImageParsingRes result;
+        private volatile String message;
+
+        Job(String id, Long recordId, Long userId, LocalDateTime createdAt) {
+            this.id = id;
+            this.recordId = recordId;
+            this.userId = userId;
+            this.createdAt = createdAt;
+        }
+
+        OcrJobRes toRes() {
+            JobStatus current = status;
+            return new OcrJobRes(id, recordId, current.name(),
+                    current == JobStatus.DONE ? result : null,
+                    current == JobStatus.FAILED ? message : null,
+                    createdAt);
+        }
+    }
+}
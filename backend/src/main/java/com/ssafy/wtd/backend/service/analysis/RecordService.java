@@ -10,6 +10,7 @@ import com.ssafy.wtd.backend.dto.charge.ImageParsingRes;
 import com.ssafy.wtd.backend.model.ChargeRecord;
 import com.ssafy.wtd.backend.model.Station;
 import com.ssafy.wtd.backend.repository.*;
+import com.ssafy.wtd.backend.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +20,7 @@ import org.gavaghan.geodesy.GeodeticCalculator;
 import org.gavaghan.geodesy.GlobalCoordinates;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +38,7 @@ public class RecordService {
     private final CarbonRepository carbonRepository; // 탄소 저장용
     private final CarbonConfigRepository configRepository; // 설정값 조회용
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
     private final OcrService ocrService;
 
     // Geodesy 계산기 인스턴스 (Spring Bean으로 관리 가능하나, 여기서는 필드로 정의)
@@ -80,6 +83,7 @@ public class RecordService {
 
         // 사용자의 상태를 'CHARGING'으로 업데이트하여 상단바 등에 반영되도록 함
         userRepository.updateStatus(request.getUserId(), "CHARGING");
+        userDetailsCache.evictByUserId(request.getUserId());
     }
 
     /**
@@ -128,8 +132,22 @@ public class RecordService {
         return record;
     }
 
-    @Transactional
+    /**
+     * 영수증 OCR 동기 처리 (OCR 은 외부 호출이므로 트랜잭션 밖에서 수행)
+     */
     public ImageParsingRes processImageParsing(Long recordId, MultipartFile imageFile) {
+        validateReceiptUpload(recordId, imageFile);
+        try {
+            return parseReceipt(recordId, imageFile.getBytes(), imageFile.getOriginalFilename());
+        } catch (IOException e) {
+            throw new RuntimeException("OCR 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 영수증 업로드 가능 여부 확인 (충전 중인 기록 + 비어 있지 않은 이미지)
+     */
+    public void validateReceiptUpload(Long recordId, MultipartFile imageFile) {
         // 유효성 검사
         ChargeRecord record = recordRepository.selectRecordById(recordId);
         if (record == null) {
@@ -144,10 +162,15 @@ public class RecordService {
             // 이미지 파일이 없음
             throw new IllegalArgumentException("업로드할 이미지 파일이 비어 있습니다.");
         }
+    }
 
+    /**
+     * Clova OCR 호출 후 충전량 / 금액 / 시간 추출 (DB 를 사용하지 않음)
+     */
+    public ImageParsingRes parseReceipt(Long recordId, byte[] image, String fileName) {
         try {
             // Clova OCR 호출
-            String ocrResponse = ocrService.callClovaOcr(imageFile);
+            String ocrResponse = ocrService.callClovaOcr(image, fileName);
             String fullText = extractFullText(ocrResponse);
 
             // 데이터 추출 (정규식 패턴 활용)
@@ -279,6 +302,7 @@ public class RecordService {
 
         // 사용자의 상태를 다시 'ACTIVE'로 변경
         userRepository.updateStatus(authenticatedUserId, "ACTIVE");
+        userDetailsCache.evictByUserId(authenticatedUserId);
 
         // 응답 생성
         ChargeConfirmRes.Data data = new ChargeConfirmRes.Data();
@@ -3,11 +3,10 @@ package com.ssafy.wtd.backend.service.auth;
 import com.ssafy.wtd.backend.dto.auth.LoginReq;
 import com.ssafy.wtd.backend.dto.auth.LoginRes;
 import com.ssafy.wtd.backend.dto.auth.SignupReq;
-import com.ssafy.wtd.backend.model.RefreshToken;
 import com.ssafy.wtd.backend.model.User;
-import com.ssafy.wtd.backend.repository.RefreshTokenRepository;
 import com.ssafy.wtd.backend.repository.UserRepository;
 import com.ssafy.wtd.backend.security.JwtUtil;
+import com.ssafy.wtd.backend.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,8 +18,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.LocalDateTime;
-
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -29,7 +26,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsCache userDetailsCache;
     private final com.ssafy.wtd.backend.repository.CarbonRepository carbonRepository;
 
     /**
@@ -88,6 +86,7 @@ public class AuthService {
                 String encodedPassword = passwordEncoder.encode(request.getPassword());
                 user.setPassword(encodedPassword);
                 userRepository.updatePassword(user.getUserId(), encodedPassword);
+                userDetailsCache.evict(user.getEmail());
                 passwordMigrated = true;
             } else {
                 // BCrypt도 안 맞고, 평문도 안 맞으면 인증 실패
@@ -119,16 +118,8 @@ public class AuthService {
         // 3. Access Token 발급
         String accessToken = jwtUtil.generateAccessToken(userDetails);
 
-        // 4. Refresh Token 발급
-        String refreshToken = jwtUtil.generateRefreshToken(userDetails);
-
-        // 5. Refresh Token DB 저장
-        RefreshToken tokenEntity = new RefreshToken();
-        tokenEntity.setUserId(user.getUserId());
-        tokenEntity.setToken(refreshToken);
-        tokenEntity.setExpiresAt(LocalDateTime.now().plusDays(14));
-
-        refreshTokenRepository.save(tokenEntity);
+        // 4~5. Refresh Token 발급 + 해시 저장
+        String refreshToken = refreshTokenService.issue(user.getUserId(), userDetails);
 
         // 6. CO2 감축량 조회
         Float totalCarbonSavedReq = carbonRepository.getTotalCarbonSavedByUserId(user.getUserId());
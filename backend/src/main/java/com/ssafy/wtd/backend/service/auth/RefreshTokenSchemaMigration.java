@@ -0,0 +1,44 @@
+package com.ssafy.wtd.backend.service.auth;
+
+import com.ssafy.wtd.backend.repository.RefreshTokenSchemaRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 DB 의 refresh_token 을 해시 저장 구조로 변환 (기동 시 1회, 요청을 받기 전)
+ * - schema.sql 의 CREATE TABLE IF NOT EXISTS 는 이미 있는 테이블을 바꾸지 않으므로
+ *   token(원문) 컬럼이 남아 있으면 token_hash 를 추가해 원문에서 채운 뒤 원문 컬럼을 삭제
+ * - 기존 토큰의 해시를 그대로 옮기므로 로그인 상태가 유지됨
+ * - 단계마다 다시 실행해도 안전 (원문 컬럼이 사라지는 마지막 ALTER 전까지는 다음 기동에서 이어서 진행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenSchemaMigration {
+
+    private final RefreshTokenSchemaRepository schemaRepository;
+
+    @PostConstruct
+    public void migrate() {
+        try {
+            if (schemaRepository.countColumn("token") == 0) {
+                return;
+            }
+
+            log.info("[AUTH] Migrating refresh_token to hashed storage");
+            if (schemaRepository.countColumn("token_hash") == 0) {
+                schemaRepository.addTokenHashColumn();
+            }
+            int hashed = schemaRepository.fillTokenHashes();
+            int duplicates = schemaRepository.deleteDuplicateHashes();
+            schemaRepository.finishTokenHashColumn();
+            log.info("[AUTH] refresh_token migrated. hashed={}, duplicatesRemoved={}", hashed, duplicates);
+
+        } catch (Exception e) {
+            // 변환 실패 시 로그인 / 재발급이 500 이 되므로 원인을 남김 (다음 기동에서 재시도)
+            log.error("[AUTH] refresh_token migration failed", e);
+        }
+    }
+}
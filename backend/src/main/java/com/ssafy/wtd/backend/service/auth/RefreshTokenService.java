@@ -1,43 +1,128 @@
 package com.ssafy.wtd.backend.service.auth;
 
+import com.ssafy.wtd.backend.dto.auth.RefreshTokenRes;
 import com.ssafy.wtd.backend.model.RefreshToken;
 import com.ssafy.wtd.backend.repository.RefreshTokenRepository;
+import com.ssafy.wtd.backend.security.CustomUserDetails;
 import com.ssafy.wtd.backend.security.JwtUtil;
+import com.ssafy.wtd.backend.security.TokenHashes;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
+/**
+ * Refresh Token 발급 / 회전 / 정리
+ * - DB 에는 토큰 원문 대신 SHA-256 해시만 저장 (unique index 로 조회)
+ * - refresh 때마다 사용한 토큰을 폐기하고 새 토큰을 발급 (재사용된 토큰은 거부)
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
+    // 만료 토큰 삭제 1회당 row 수 (긴 lock 방지)
+    private static final int PURGE_BATCH_SIZE = 1000;
+
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
 
-    public String refreshAccessToken(String refreshToken) {
+    /**
+     * 새 Refresh Token 발급 후 해시 저장
+     *
+     * @return 토큰 원문 (클라이언트에만 전달)
+     */
+    public String issue(Long userId, UserDetails userDetails) {
+        String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+
+        RefreshToken tokenEntity = new RefreshToken();
+        tokenEntity.setUserId(userId);
+        tokenEntity.setTokenHash(TokenHashes.sha256(refreshToken));
+        tokenEntity.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(jwtUtil.getRefreshTokenExpiration())));
+        refreshTokenRepository.save(tokenEntity);
+
+        return refreshToken;
+    }
+
+    /**
+     * Access Token 재발급 + Refresh Token 회전
+     */
+    @Transactional
+    public RefreshTokenRes refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw invalid();
+        }
+
+        // 1. 서명 / 만료 확인 후 email 추출
+        String email;
+        try {
+            email = jwtUtil.extractEmail(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw invalid();
+        }
 
-        // 1. DB에서 Refresh Token 조회
-        RefreshToken tokenEntity = refreshTokenRepository.findByToken(refreshToken);
+        // 2. 해시로 저장된 토큰 조회 (unique index)
+        String tokenHash = TokenHashes.sha256(refreshToken);
+        RefreshToken tokenEntity = refreshTokenRepository.findByTokenHash(tokenHash);
         if (tokenEntity == null) {
-            throw new IllegalArgumentException("Invalid refresh token");
+            throw invalid();
         }
 
-        // 2. 만료 체크
+        // 3. 사용한 토큰 폐기 (동시에 같은 토큰으로 들어온 요청은 한 건만 통과)
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) == 0) {
+            throw invalid();
+        }
         if (tokenEntity.getExpiresAt().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Refresh token expired");
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "만료된 refresh token 입니다.");
         }
 
-        // 3. JWT에서 email 추출
-        String email = jwtUtil.extractEmail(refreshToken);
+        // 4. UserDetails 로드 (토큰 소유자와 같은 사용자인지 확인)
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUsername(email);
+        } catch (UsernameNotFoundException e) {
+            throw invalid();
+        }
+        // DISABLED 사용자만 차단 (JwtAuthenticationFilter 와 같은 기준, 충전 중인 CHARGING 사용자는 통과)
+        if (userDetails instanceof CustomUserDetails customUser
+                && (!customUser.getUserId().equals(tokenEntity.getUserId())
+                        || "DISABLED".equalsIgnoreCase(customUser.getStatus()))) {
+            throw invalid();
+        }
 
-        // 4. UserDetails 로드
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        // 5. 새 Access Token + 새 Refresh Token
+        return new RefreshTokenRes(
+                jwtUtil.generateAccessToken(userDetails),
+                issue(tokenEntity.getUserId(), userDetails));
+    }
+
+    /**
+     * 만료된 토큰 일괄 삭제
+     *
+     * @return 삭제된 row 수
+     */
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(now, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        return total;
+    }
 
-        // 5. 새 Access Token 발급
-        return jwtUtil.generateAccessToken(userDetails);
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 refresh token 입니다.");
     }
 }
@@ -0,0 +1,33 @@
+package com.ssafy.wtd.backend.service.station;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 지도 영역 (경계 포함)
+ */
+record Bbox(double minLat, double maxLat, double minLng, double maxLng) {
+
+    /**
+     * "minLng,minLat,maxLng,maxLat" 형식 파싱
+     */
+    static Bbox parse(String bbox) {
+        String[] parts = bbox == null ? new String[0] : bbox.split(",");
+        if (parts.length != 4) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bbox 형식이 올바르지 않습니다.");
+        }
+        try {
+            double minLng = Double.parseDouble(parts[0].trim());
+            double minLat = Double.parseDouble(parts[1].trim());
+            double maxLng = Double.parseDouble(parts[2].trim());
+            double maxLat = Double.parseDouble(parts[3].trim());
+            return new Bbox(minLat, maxLat, minLng, maxLng);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bbox 형식이 올바르지 않습니다.");
+        }
+    }
+
+    boolean contains(double lat, double lng) {
+        return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.model.Charger;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동기화 1회 동안 DB 에 반영된 충전기 변경분 (writer 스레드가 커밋 후 추가)
+ * - 실시간 push 처럼 "바뀐 것만" 필요한 곳에 넘기기 위한 용도
+ * - 첫 전체 동기화처럼 변경이 limit 을 넘으면 목록을 버리고 overflow 로만 표시 (구독자는 전체 재조회)
+ */
+final class ChargerChangeLog {
+
+    private final int limit;
+    private final Queue<Charger> chargers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile boolean overflowed;
+
+    ChargerChangeLog(int limit) {
+        this.limit = limit;
+    }
+
+    void addAll(List<Charger> changed) {
+        if (overflowed || changed.isEmpty()) {
+            return;
+        }
+        if (size.addAndGet(changed.size()) > limit) {
+            overflowed = true;
+            chargers.clear();
+            return;
+        }
+        chargers.addAll(changed);
+    }
+
+    boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    boolean isOverflowed() {
+        return overflowed;
+    }
+
+    Collection<Charger> chargers() {
+        return chargers;
+    }
+}
@@ -0,0 +1,192 @@
+package com.ssafy.wtd.backend.service.station;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * chargerId → 상태 fingerprint (status + powerType + chargerType) 테이블
+ * - 전국 약 40만 충전기를 String/Integer 객체 없이 보관하기 위해
+ *   chargerId 를 64bit 해시로 줄여 long[] / int[] open addressing 으로 저장
+ * - fingerprint 하위 4bit 는 status, 나머지는 (powerType, chargerType) 해시
+ *   → 상태만 내려오는 증분 동기화에서도 status 만 바꿔 비교할 수 있다
+ * - 전체 동기화 시 generation 으로 이번 실행에서 본 충전기를 표시해 삭제 대상을 찾는다
+ * - 충전소 기본 정보(이름 / 주소 / 좌표) 변경 감지도 stationId → stationFingerprint 로 같은 테이블을 사용
+ * - writer 스레드가 동시에 접근하므로 메서드 단위로 동기화
+ */
+class ChargerFingerprintTable {
+
+    static final int MISSING = Integer.MIN_VALUE;
+
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int STATUS_MASK = 0xF;
+
+    private long[] keys;
+    private int[] values;
+    private int[] seen;
+    private int size;
+
+    private int generation;
+    private volatile boolean loaded;
+
+    ChargerFingerprintTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 16) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.seen = new int[capacity];
+    }
+
+    static int fingerprint(int status, String powerType, String chargerType) {
+        return (Objects.hash(powerType, chargerType) << 4) | (status & STATUS_MASK);
+    }
+
+    static int stationFingerprint(String stationName, String address, Double lat, Double lng) {
+        return Objects.hash(stationName, address, lat, lng);
+    }
+
+    static int statusOf(int fingerprint) {
+        return fingerprint & STATUS_MASK;
+    }
+
+    static int withStatus(int fingerprint, int status) {
+        return (fingerprint & ~STATUS_MASK) | (status & STATUS_MASK);
+    }
+
+    /**
+     * 저장된 fingerprint 와 다르거나 처음 보는 충전기인지 여부
+     */
+    synchronized boolean isChanged(String chargerId, int fingerprint) {
+        int idx = indexOf(key(chargerId));
+        return keys[idx] == EMPTY || values[idx] != fingerprint;
+    }
+
+    /**
+     * 저장된 fingerprint (없으면 MISSING)
+     */
+    synchronized int get(String chargerId) {
+        int idx = indexOf(key(chargerId));
+        return keys[idx] == EMPTY ? MISSING : values[idx];
+    }
+
+    synchronized void put(String chargerId, int fingerprint) {
+        long key = key(chargerId);
+        int idx = indexOf(key);
+        if (keys[idx] == EMPTY) {
+            keys[idx] = key;
+            if (++size > keys.length * LOAD_FACTOR) {
+                values[idx] = fingerprint;
+                seen[idx] = generation;
+                resize();
+                return;
+            }
+        }
+        values[idx] = fingerprint;
+        seen[idx] = generation;
+    }
+
+    /**
+     * 이번 generation 에서 확인된 충전기로 표시
+     */
+    synchronized void markSeen(String chargerId) {
+        int idx = indexOf(key(chargerId));
+        if (keys[idx] != EMPTY) {
+            seen[idx] = generation;
+        }
+    }
+
+    synchronized boolean wasSeen(String chargerId) {
+        int idx = indexOf(key(chargerId));
+        return keys[idx] != EMPTY && seen[idx] == generation;
+    }
+
+    /**
+     * 전체 동기화 시작 시 호출 → 이후 put / markSeen 되지 않은 충전기는 삭제 후보
+     */
+    synchronized void beginGeneration() {
+        generation++;
+    }
+
+    /**
+     * linear probing 삭제 (tombstone 없이 뒤 슬롯을 당겨 채움)
+     */
+    synchronized void remove(String chargerId) {
+        int hole = indexOf(key(chargerId));
+        if (keys[hole] == EMPTY) {
+            return;
+        }
+        int mask = keys.length - 1;
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY) {
+            int home = slot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                seen[hole] = seen[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    synchronized void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        loaded = false;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    void markLoaded() {
+        this.loaded = true;
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        int idx = slot(key, mask);
+        while (keys[idx] != EMPTY && keys[idx] != key) {
+            idx = (idx + 1) & mask;
+        }
+        return idx;
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int[] oldSeen = seen;
+        keys = new long[oldKeys.length << 1];
+        values = new int[oldValues.length << 1];
+        seen = new int[oldSeen.length << 1];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int idx = indexOf(oldKeys[i]);
+                keys[idx] = oldKeys[i];
+                values[idx] = oldValues[i];
+                seen[idx] = oldSeen[i];
+            }
+        }
+    }
+
+    /**
+     * chargerId → 64bit FNV-1a 해시 (0 은 빈 슬롯 표시용으로 예약)
+     */
+    private static long key(String chargerId) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < chargerId.length(); i++) {
+            h ^= chargerId.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h == EMPTY ? 1L : h;
+    }
+}
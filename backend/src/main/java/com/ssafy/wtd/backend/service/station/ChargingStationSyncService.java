@@ -1,16 +1,45 @@
 package com.ssafy.wtd.backend.service.station;
 
 import com.ssafy.wtd.backend.client.EnvEvChargerClient;
-import com.ssafy.wtd.backend.dto.external.EnvEvChargerRes;
-import com.ssafy.wtd.backend.dto.external.EnvEvChargerRes.Item;
+import com.ssafy.wtd.backend.dto.external.EnvEvChargerItem;
+import com.ssafy.wtd.backend.model.Charger;
+import com.ssafy.wtd.backend.model.SidoCode;
+import com.ssafy.wtd.backend.model.Station;
+import com.ssafy.wtd.backend.model.SyncWatermark;
 import com.ssafy.wtd.backend.repository.station.ChargerRepository;
 import com.ssafy.wtd.backend.repository.station.ChargingStationRepository;
+import com.ssafy.wtd.backend.repository.station.SyncWatermarkRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -19,65 +48,617 @@ public class ChargingStationSyncService {
     private final EnvEvChargerClient envEvChargerClient;
     private final ChargingStationRepository chargingStationRepository;
     private final ChargerRepository chargerRepository;
+    private final SyncWatermarkRepository syncWatermarkRepository;
+    private final StationSnapshotService stationSnapshotService;
+    private final StationStatusPushService stationStatusPushService;
+    private final StationDetailService stationDetailService;
 
     @Autowired
     @org.springframework.context.annotation.Lazy
     private ChargingStationSyncService self; // Self-injection to use @Transactional proxy
 
+    @Value("${ev.charger.sync.num-of-rows:1000}")
+    private int numOfRows;
+
+    @Value("${ev.charger.sync.fetch-threads:8}")
+    private int fetchThreads;
+
+    // Hikari 커넥션 풀(기본 10)을 고갈시키지 않도록 writer 수를 제한
+    @Value("${ev.charger.sync.writer-threads:3}")
+    private int writerThreads;
+
+    @Value("${ev.charger.sync.queue-capacity:32}")
+    private int queueCapacity;
+
+    // 스트리밍 파싱 시 writer 로 넘기는 item 묶음 크기
+    @Value("${ev.charger.sync.stream-chunk-size:250}")
+    private int streamChunkSize;
+
+    // multi-row upsert 1회당 최대 row 수
+    @Value("${ev.charger.sync.batch-chunk-size:500}")
+    private int batchChunkSize;
+
+    // 증분 동기화 사이사이 전체 동기화(삭제 반영 포함) 주기
+    @Value("${ev.charger.sync.full-interval-minutes:60}")
+    private long fullIntervalMinutes;
+
+    // 전체 동기화에서 사라진 충전기가 이 비율을 넘으면 API 이상으로 보고 삭제하지 않음
+    @Value("${ev.charger.sync.max-delete-ratio:0.05}")
+    private double maxDeleteRatio;
+
+    // 공공데이터 statUpdDt 는 KST 기준 yyyyMMddHHmmss
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter STAT_UPD_DT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    // writer 종료 신호 (poison pill)
+    private static final PageBatch END_OF_STREAM = new PageBatch(null, null, List.of());
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile SyncReport lastReport;
+
+    // 마지막으로 DB에 반영된 충전기 상태 (변경분만 저장하기 위한 기준)
+    private final ChargerFingerprintTable fingerprints = new ChargerFingerprintTable(400_000);
+
+    // 마지막으로 DB에 반영된 충전소 이름 / 주소 / 좌표 (충전기가 그대로여도 충전소 정보가 바뀌면 저장)
+    private final ChargerFingerprintTable stationFingerprints = new ChargerFingerprintTable(100_000);
+
+    /**
+     * 전국 17개 시도 동기화 (스케줄러)
+     * - 기준 시각이 최근이면 상태 변경분만, 아니면 전체 조회
+     */
+    public SyncReport refreshAllRegions() {
+        return runSync(allZcodes(), false);
+    }
+
     /**
-     * 환경부 EV 충전소 / 충전기 데이터 동기화
+     * 환경부 EV 충전소 / 충전기 데이터 전체 동기화 (수동)
      *
-     * @param zcode 지역 코드 (ex. 11 = 서울)
+     * @param zcode 지역 코드 (ex. 11 = 서울, null 이면 전국)
      */
-    public void refreshChargingStationData(String zcode) {
+    public SyncReport refreshChargingStationData(String zcode) {
+        if (zcode == null || zcode.isBlank()) {
+            return runSync(allZcodes(), true);
+        }
+        return runSync(List.of(zcode), true);
+    }
 
-        int pageNo = 1;
-        int numOfRows = 500;
-        int maxPage = 3;
+    /**
+     * 가장 최근(또는 진행 중인) 동기화 실행 결과
+     */
+    public SyncReport getLastReport() {
+        return lastReport;
+    }
 
-        log.info("[SYNC] Start EV charger sync (zcode={})", zcode);
+    /**
+     * fetch 스레드 → bounded queue → writer 스레드 파이프라인
+     * 1. 지역별 1페이지 조회로 totalCount 확인
+     * 2. 나머지 페이지를 fetch 풀에 fan-out
+     * 3. 스트리밍 파싱된 item chunk 는 bounded queue 를 거쳐 writer 가 트랜잭션 단위로 저장 (큐가 가득 차면 fetch 가 대기)
+     * 4. 지역별 기준 시각 저장, 전국 전체 동기화였다면 사라진 충전기 삭제
+     * 5. 변경이 있으면 조회용 마커 스냅샷 재빌드
+     */
+    private SyncReport runSync(List<String> zcodes, boolean forceFull) {
+
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[SYNC] Previous sync is still running. skip (zcodes={})", zcodes);
+            return lastReport;
+        }
+
+        SyncReport report = new SyncReport(zcodes);
+        lastReport = report;
+
+        BlockingQueue<PageBatch> queue = new ArrayBlockingQueue<>(queueCapacity);
+        ExecutorService fetchPool = Executors.newFixedThreadPool(fetchThreads, namedThreadFactory("ev-sync-fetch-"));
+        ExecutorService writerPool = Executors.newFixedThreadPool(writerThreads, namedThreadFactory("ev-sync-writer-"));
+
+        try {
+            // cold start: charger 테이블에서 fingerprint 재구성
+            if (!fingerprints.isLoaded()) {
+                self.loadFingerprints();
+            }
+
+            LocalDateTime startedAt = LocalDateTime.now(KST);
+            Map<String, SyncWatermark> watermarks = syncWatermarkRepository.findAll().stream()
+                    .collect(Collectors.toMap(SyncWatermark::getZcode, Function.identity()));
 
-        while (pageNo <= maxPage) {
-            // [NETWORK I/O] 트랜잭션 외부에서 수행 (락 방지)
-            EnvEvChargerRes res = envEvChargerClient.fetch(pageNo, numOfRows, zcode);
+            List<RegionPlan> plans = new ArrayList<>(zcodes.size());
+            for (String zcode : zcodes) {
+                RegionPlan plan = plan(zcode, watermarks.get(zcode), startedAt, forceFull);
+                report.region(zcode).mode(plan.mode());
+                plans.add(plan);
+            }
 
-            if (res == null || res.isEmpty()) {
-                break;
+            // 전국을 모두 전체 조회할 때만 사라진 충전기를 판별할 수 있음
+            boolean reconcile = zcodes.containsAll(allZcodes())
+                    && plans.stream().allMatch(p -> p.mode() == SyncMode.FULL);
+            if (reconcile) {
+                fingerprints.beginGeneration();
             }
 
-            log.info("[SYNC] Page {} fetched, items={}", pageNo, res.getItems().size());
+            log.info("[SYNC] Start EV charger sync (regions={}, incremental={}, numOfRows={}, fetchThreads={}, writerThreads={})",
+                    zcodes.size(), plans.stream().filter(p -> p.mode() == SyncMode.INCREMENTAL).count(),
+                    numOfRows, fetchThreads, writerThreads);
 
-            // [DB I/O] 별도 트랜잭션으로 저장
-            self.saveBatch(res.getItems());
+            ChargerChangeLog changeLog = stationStatusPushService.newChangeLog();
+            List<CompletableFuture<Void>> writers = new ArrayList<>(writerThreads);
+            for (int i = 0; i < writerThreads; i++) {
+                writers.add(CompletableFuture.runAsync(() -> drain(queue, report, changeLog), writerPool));
+            }
+
+            // [NETWORK I/O] 1단계: 지역별 첫 페이지 → totalCount 로 전체 페이지 수 계산
+            List<CompletableFuture<Void>> firstPages = new ArrayList<>(plans.size());
+            List<PageTask> remaining = Collections.synchronizedList(new ArrayList<>());
+            for (RegionPlan plan : plans) {
+                firstPages.add(CompletableFuture.runAsync(() -> {
+                    int totalCount = fetchPage(plan, 1, queue, report);
+                    int totalPages = (int) Math.ceil((double) totalCount / numOfRows);
+                    report.region(plan.zcode()).planned(totalCount, Math.max(totalPages, 1));
+                    for (int pageNo = 2; pageNo <= totalPages; pageNo++) {
+                        remaining.add(new PageTask(plan, pageNo));
+                    }
+                }, fetchPool));
+            }
+            CompletableFuture.allOf(firstPages.toArray(new CompletableFuture[0])).join();
+
+            // [NETWORK I/O] 2단계: 나머지 페이지 fan-out
+            List<CompletableFuture<Void>> pages = new ArrayList<>(remaining.size());
+            for (PageTask task : remaining) {
+                pages.add(CompletableFuture.runAsync(
+                        () -> fetchPage(task.plan(), task.pageNo(), queue, report), fetchPool));
+            }
+            CompletableFuture.allOf(pages.toArray(new CompletableFuture[0])).join();
+
+            // [DB I/O] 모든 페이지를 큐에 넣은 뒤 writer 종료
+            for (int i = 0; i < writerThreads; i++) {
+                queue.put(END_OF_STREAM);
+            }
+            CompletableFuture.allOf(writers.toArray(new CompletableFuture[0])).join();
+
+            saveWatermarks(plans, watermarks, report, startedAt);
+
+            if (reconcile && report.getFailedPages() == 0) {
+                report.reconciled(deleteMissingChargers());
+            }
+
+            // 변경이 있었을 때만 조회용 마커 스냅샷 교체 → 새 스냅샷 기준으로 구독자에게 변경분 push
+            if (report.getWrittenItems() > 0 || report.getWrittenStations() > 0 || report.getDeletedChargers() > 0) {
+                rebuildSnapshot();
+                stationStatusPushService.publish(changeLog);
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[SYNC] Sync interrupted");
+        } finally {
+            fetchPool.shutdownNow();
+            writerPool.shutdownNow();
+            report.finish();
+            running.set(false);
+        }
 
-            pageNo++;
+        for (SyncReport.RegionProgress region : report.getRegions()) {
+            log.info("[SYNC] {}({}) mode={} pages={}/{} failed={} fetched={} changed={} skipped={} stations={}",
+                    region.getRegionName(), region.getZcode(), region.getMode(),
+                    region.getFetchedPages(), region.getTotalPages(), region.getFailedPages(),
+                    region.getFetchedItems(), region.getWrittenItems(), region.getSkippedItems(),
+                    region.getWrittenStations());
         }
+        log.info("[SYNC] Sync completed. fetched={}, changed={}, skipped={}, deleted={}, failedPages={}, elapsed={}ms, throughput={} items/s",
+                report.getFetchedItems(), report.getWrittenItems(), report.getSkippedItems(),
+                report.getDeletedChargers(), report.getFailedPages(),
+                report.getElapsedMs(), String.format("%.1f", report.getItemsPerSecond()));
 
-        log.info("[SYNC] Sync completed. total pages={}", pageNo - 1);
+        return report;
+    }
+
+    private void rebuildSnapshot() {
+        try {
+            stationSnapshotService.rebuild();
+        } catch (Exception e) {
+            // 이전 스냅샷을 계속 사용, 다음 동기화에서 재시도
+            log.warn("[SYNC] Snapshot rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 지역별 동기화 방식 결정
+     * - 전체 동기화 주기가 지났거나, 기준 시각이 상태 API 조회 범위(최대 10분)를 벗어나면 전체 조회
+     */
+    private RegionPlan plan(String zcode, SyncWatermark watermark, LocalDateTime now, boolean forceFull) {
+        if (forceFull
+                || watermark == null
+                || watermark.getLastStatUpdDt() == null
+                || watermark.getLastFullSyncAt() == null
+                || watermark.getLastFullSyncAt().plusMinutes(fullIntervalMinutes).isBefore(now)) {
+            return RegionPlan.full(zcode);
+        }
+
+        // 분 단위 절삭 / 시계 오차를 고려해 1분 여유를 둔다
+        long period = Duration.between(watermark.getLastStatUpdDt(), now).toMinutes() + 1;
+        if (period > EnvEvChargerClient.MAX_STATUS_PERIOD_MIN) {
+            return RegionPlan.full(zcode);
+        }
+        return new RegionPlan(zcode, SyncMode.INCREMENTAL, watermark.getLastStatUpdDt(), (int) period);
+    }
+
+    /**
+     * 페이지 1개를 스트리밍으로 조회하며 chunk 단위로 writer 큐에 적재
+     * (응답 전체를 메모리에 올리지 않으므로 numOfRows 를 키워도 heap 사용량이 일정)
+     *
+     * @return API 가 응답한 totalCount (실패 시 0)
+     */
+    private int fetchPage(RegionPlan plan, int pageNo, BlockingQueue<PageBatch> queue, SyncReport report) {
+        SyncReport.RegionProgress progress = report.region(plan.zcode());
+
+        Consumer<List<EnvEvChargerItem>> sink = chunk -> {
+            List<EnvEvChargerItem> items = plan.mode() == SyncMode.FULL
+                    ? chunk
+                    : updatedSince(chunk, plan.since());
+
+            // 큐가 가득 차면 writer 가 따라올 때까지 대기 (backpressure)
+            if (!items.isEmpty()) {
+                try {
+                    queue.put(new PageBatch(plan.zcode(), plan.mode(), items));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Sync interrupted while enqueueing", e);
+                }
+            }
+            progress.itemsFetched(chunk.size());
+            progress.skipped(chunk.size() - items.size());
+        };
+
+        try {
+            int totalCount = plan.mode() == SyncMode.FULL
+                    ? envEvChargerClient.fetch(pageNo, numOfRows, plan.zcode(), streamChunkSize, sink)
+                    : envEvChargerClient.fetchStatus(pageNo, numOfRows, plan.zcode(), plan.period(),
+                            streamChunkSize, sink);
+
+            progress.pageFetched();
+            return totalCount;
+
+        } catch (Exception e) {
+            log.warn("[SYNC] Page fetch failed (zcode={}, pageNo={}): {}", plan.zcode(), pageNo, e.getMessage());
+            progress.pageFailed();
+            return 0;
+        }
     }
 
     /**
-     * 데이터 한 페이지(batch)를 트랜잭션으로 저장
+     * 상태 API 는 분 단위로만 범위를 받으므로 statUpdDt 로 기준 시각 이전 항목을 한 번 더 거른다
+     * (같은 초에 갱신된 항목은 fingerprint 비교로 중복 반영되지 않음)
+     */
+    private List<EnvEvChargerItem> updatedSince(List<EnvEvChargerItem> items, LocalDateTime since) {
+        List<EnvEvChargerItem> filtered = new ArrayList<>(items.size());
+        for (EnvEvChargerItem item : items) {
+            LocalDateTime updatedAt = parseStatUpdDt(item.getStatUpdDt());
+            if (updatedAt == null || !updatedAt.isBefore(since)) {
+                filtered.add(item);
+            }
+        }
+        return filtered;
+    }
+
+    private LocalDateTime parseStatUpdDt(String statUpdDt) {
+        if (statUpdDt == null || statUpdDt.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(statUpdDt, STAT_UPD_DT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * writer 워커: END_OF_STREAM 을 받을 때까지 큐의 페이지를 저장
+     */
+    private void drain(BlockingQueue<PageBatch> queue, SyncReport report, ChargerChangeLog changeLog) {
+        while (true) {
+            PageBatch batch;
+            try {
+                batch = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (batch == END_OF_STREAM) {
+                return;
+            }
+
+            SyncReport.RegionProgress progress = report.region(batch.zcode());
+            try {
+                int changed = batch.mode() == SyncMode.FULL
+                        ? applyFull(batch.items(), changeLog, progress)
+                        : applyIncremental(batch.items(), changeLog);
+                progress.written(changed);
+                progress.skipped(batch.items().size() - changed);
+            } catch (Exception e) {
+                progress.pageFailed();
+                log.error("[SYNC] Batch save failed (zcode={}, items={})", batch.zcode(), batch.items().size(), e);
+            }
+        }
+    }
+
+    /**
+     * 전체 조회 페이지 반영: 충전소/충전기 중 바뀐 것만 upsert
+     *
+     * @return 저장된 충전기 수
+     */
+    int applyFull(List<EnvEvChargerItem> items, ChargerChangeLog changeLog, SyncReport.RegionProgress progress) {
+        ChangeSet changes = detectChanges(items);
+        if (changes.chargers().isEmpty() && changes.stations().isEmpty()) {
+            return 0;
+        }
+
+        self.saveBatch(changes.stations(), changes.chargers());
+
+        // 커밋 이후에만 fingerprint 갱신 (롤백 시 다음 실행에서 재시도)
+        for (Charger charger : changes.chargers()) {
+            fingerprints.put(charger.getChargerId(), fingerprintOf(charger));
+        }
+        for (Station station : changes.stations()) {
+            stationFingerprints.put(station.getStationId(), fingerprintOf(station));
+        }
+        progress.stationsWritten(changes.stations().size());
+        changeLog.addAll(changes.chargers());
+        stationDetailService.invalidate(changes.stations().stream().map(Station::getStationId).toList());
+        return changes.chargers().size();
+    }
+
+    /**
+     * 상태 변경분 반영: 이미 알고 있는 충전기의 status 만 갱신
+     * (새 충전기는 충전소/타입 정보가 없으므로 다음 전체 동기화에서 반영)
+     *
+     * @return 저장된 충전기 수
+     */
+    private int applyIncremental(List<EnvEvChargerItem> items, ChargerChangeLog changeLog) {
+        List<Charger> changed = new ArrayList<>();
+
+        for (EnvEvChargerItem item : items) {
+            String chargerId = item.getStatId() + "_" + item.getChgerId();
+            int fingerprint = fingerprints.get(chargerId);
+            if (fingerprint == ChargerFingerprintTable.MISSING) {
+                continue;
+            }
+
+            int status = parseStatus(item.getStat());
+            if (ChargerFingerprintTable.statusOf(fingerprint) == status) {
+                continue;
+            }
+
+            changed.add(Charger.builder()
+                    .chargerId(chargerId)
+                    .stationId(item.getStatId())
+                    .status(status)
+                    .build());
+        }
+
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        self.updateStatuses(changed);
+
+        for (Charger charger : changed) {
+            int fingerprint = fingerprints.get(charger.getChargerId());
+            fingerprints.put(charger.getChargerId(),
+                    ChargerFingerprintTable.withStatus(fingerprint, charger.getStatus()));
+        }
+        changeLog.addAll(changed);
+        stationDetailService.invalidate(changed.stream().map(Charger::getStationId).distinct().toList());
+        return changed.size();
+    }
+
+    /**
+     * 페이지에서 상태가 바뀐 충전기만 추려낸다
+     * - 충전소는 변경된 충전기가 속한 곳과 이름 / 주소 / 좌표가 바뀐 곳만 upsert (station_id 기준 중복 제거)
+     * - 바뀌지 않은 충전기도 이번 실행에서 확인된 것으로 표시 (삭제 대상 판별용)
+     */
+    private ChangeSet detectChanges(List<EnvEvChargerItem> items) {
+        Map<String, Station> stations = new LinkedHashMap<>();
+        List<Charger> chargers = new ArrayList<>();
+
+        for (EnvEvChargerItem item : items) {
+            Charger charger = toCharger(item);
+            boolean chargerChanged = fingerprints.isChanged(charger.getChargerId(), fingerprintOf(charger));
+            if (chargerChanged) {
+                chargers.add(charger);
+            } else {
+                fingerprints.markSeen(charger.getChargerId());
+            }
+
+            // 바뀐 충전기가 참조하는 충전소(FK) 또는 이름 / 주소 / 좌표가 바뀐 충전소
+            if (!stations.containsKey(item.getStatId())) {
+                Station station = toStation(item);
+                if (chargerChanged || stationFingerprints.isChanged(station.getStationId(), fingerprintOf(station))) {
+                    stations.put(station.getStationId(), station);
+                }
+            }
+        }
+        return new ChangeSet(stations.values(), chargers);
+    }
+
+    /**
+     * 지역별 기준 시각 저장
+     * - 실패한 페이지가 있는 지역은 기준 시각을 유지해 다음 실행에서 같은 구간을 다시 조회
+     */
+    private void saveWatermarks(List<RegionPlan> plans, Map<String, SyncWatermark> previous,
+                                SyncReport report, LocalDateTime startedAt) {
+        for (RegionPlan plan : plans) {
+            if (report.region(plan.zcode()).getFailedPages() > 0) {
+                continue;
+            }
+
+            SyncWatermark before = previous.get(plan.zcode());
+            LocalDateTime lastFullSyncAt = plan.mode() == SyncMode.FULL
+                    ? startedAt
+                    : before.getLastFullSyncAt();
+
+            syncWatermarkRepository.saveOrUpdate(SyncWatermark.builder()
+                    .zcode(plan.zcode())
+                    .lastStatUpdDt(startedAt)
+                    .lastFullSyncAt(lastFullSyncAt)
+                    .build());
+        }
+    }
+
+    /**
+     * 전국 전체 동기화에서 한 번도 내려오지 않은 충전기 삭제
+     *
+     * @return 삭제된 충전기 수
+     */
+    private int deleteMissingChargers() {
+        List<String> missing = self.findUnseenChargerIds();
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        if (missing.size() > fingerprints.size() * maxDeleteRatio) {
+            log.warn("[SYNC] Too many missing chargers ({} of {}). skip delete", missing.size(), fingerprints.size());
+            return 0;
+        }
+
+        self.deleteChargers(missing);
+        for (String chargerId : missing) {
+            fingerprints.remove(chargerId);
+        }
+        // 삭제는 전체 동기화 때만 드물게 일어나므로 상세 캐시는 통째로 비움
+        stationDetailService.invalidateAll();
+        return missing.size();
+    }
+
+    /**
+     * charger / charging_station 테이블 전체를 각각 한 번의 streaming 조회로 읽어 fingerprint 테이블 재구성
+     */
+    @Transactional(readOnly = true)
+    public void loadFingerprints() {
+        long start = System.currentTimeMillis();
+        fingerprints.clear();
+        stationFingerprints.clear();
+        chargerRepository.streamAllChargers(ctx -> {
+            Charger charger = ctx.getResultObject();
+            fingerprints.put(charger.getChargerId(), fingerprintOf(charger));
+        });
+        chargingStationRepository.streamAllStations(ctx -> {
+            Station station = ctx.getResultObject();
+            stationFingerprints.put(station.getStationId(), fingerprintOf(station));
+        });
+        fingerprints.markLoaded();
+        stationFingerprints.markLoaded();
+        log.info("[SYNC] Charger fingerprints loaded. chargers={}, stations={}, elapsed={}ms",
+                fingerprints.size(), stationFingerprints.size(), System.currentTimeMillis() - start);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findUnseenChargerIds() {
+        List<String> unseen = new ArrayList<>();
+        chargerRepository.streamAllChargers(ctx -> {
+            String chargerId = ctx.getResultObject().getChargerId();
+            if (!fingerprints.wasSeen(chargerId)) {
+                unseen.add(chargerId);
+            }
+        });
+        return unseen;
+    }
+
+    /**
+     * 변경분(batch)을 트랜잭션으로 저장
+     * - 충전소 → 충전기 순서로 chunk 단위 multi-row upsert (FK 순서 보장)
      */
     @Transactional
-    public void saveBatch(java.util.List<Item> items) {
-        for (Item item : items) {
-            // 1. 충전소 upsert
-            chargingStationRepository.saveOrUpdate(
-                    item.getStatId(),
-                    item.getStatNm(),
-                    item.getAddr(),
-                    Double.parseDouble(item.getLat()),
-                    Double.parseDouble(item.getLng()));
-
-            // 2. 충전기 upsert
-            chargerRepository.saveOrUpdate(
-                    item.getStatId() + "_" + item.getChgerId(), // charger_id
-                    item.getStatId(), // station_id
-                    parseStatus(item.getStat()),
-                    parsePowerType(item.getPowerType(), item.getChgerType()),
-                    parseDetailedChargerType(item.getChgerType()));
+    public void saveBatch(Collection<Station> stations, List<Charger> chargers) {
+        for (List<Station> chunk : chunks(new ArrayList<>(stations))) {
+            chargingStationRepository.saveOrUpdateAll(chunk);
+        }
+        for (List<Charger> chunk : chunks(chargers)) {
+            chargerRepository.saveOrUpdateAll(chunk);
+        }
+    }
+
+    @Transactional
+    public void updateStatuses(List<Charger> chargers) {
+        for (List<Charger> chunk : chunks(chargers)) {
+            chargerRepository.updateStatusAll(chunk);
+        }
+    }
+
+    @Transactional
+    public void deleteChargers(List<String> chargerIds) {
+        for (List<String> chunk : chunks(chargerIds)) {
+            chargerRepository.deleteByIds(chunk);
+        }
+    }
+
+    private static int fingerprintOf(Charger charger) {
+        return ChargerFingerprintTable.fingerprint(
+                charger.getStatus(), charger.getPowerType(), charger.getChargerType());
+    }
+
+    private static int fingerprintOf(Station station) {
+        return ChargerFingerprintTable.stationFingerprint(
+                station.getStationName(), station.getAddress(), station.getLat(), station.getLng());
+    }
+
+    private static List<String> allZcodes() {
+        return Arrays.stream(SidoCode.values())
+                .map(SidoCode::getZcode)
+                .toList();
+    }
+
+    private Station toStation(EnvEvChargerItem item) {
+        Station station = new Station();
+        station.setStationId(item.getStatId());
+        station.setStationName(item.getStatNm());
+        station.setAddress(item.getAddr());
+        station.setLat(Double.parseDouble(item.getLat()));
+        station.setLng(Double.parseDouble(item.getLng()));
+        return station;
+    }
+
+    private Charger toCharger(EnvEvChargerItem item) {
+        return Charger.builder()
+                .chargerId(item.getStatId() + "_" + item.getChgerId())
+                .stationId(item.getStatId())
+                .status(parseStatus(item.getStat()))
+                .powerType(parsePowerType(item.getPowerType(), item.getChgerType()))
+                .chargerType(parseDetailedChargerType(item.getChgerType()))
+                .build();
+    }
+
+    private <T> List<List<T>> chunks(List<T> list) {
+        int size = Math.max(batchChunkSize, 1);
+        List<List<T>> chunks = new ArrayList<>((list.size() + size - 1) / size);
+        for (int from = 0; from < list.size(); from += size) {
+            chunks.add(list.subList(from, Math.min(from + size, list.size())));
         }
+        return chunks;
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private record RegionPlan(String zcode, SyncMode mode, LocalDateTime since, int period) {
+
+        static RegionPlan full(String zcode) {
+            return new RegionPlan(zcode, SyncMode.FULL, null, 0);
+        }
+    }
+
+    private record PageTask(RegionPlan plan, int pageNo) {
+    }
+
+    private record PageBatch(String zcode, SyncMode mode, List<EnvEvChargerItem> items) {
+    }
+
+    private record ChangeSet(Collection<Station> stations, List<Charger> chargers) {
     }
 
     /**
@@ -0,0 +1,75 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.model.SidoCode;
+
+import java.util.regex.Pattern;
+
+/**
+ * 충전소 주소를 행정구역 단위로 분해한 결과
+ * - sido    : 시도 (SidoCode, 약칭 / 구 명칭 모두 인식)
+ * - sigungu : 시 / 군 / 구 (세종처럼 없는 경우 null)
+ * - gu      : 일반시 아래 구 (예: 수원시 장안구 → 장안구), 없으면 null
+ * - dong    : 읍 / 면 / 동 / 가 (도로명 주소의 괄호 안 참고항목 포함), 없으면 null
+ */
+record RegionAddress(SidoCode sido, String sigungu, String gu, String dong) {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[(),]");
+    // 공공데이터 주소에 섞여 오는 NBSP / 전각 공백도 구분자로 취급
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s\\u00A0\\u3000]+");
+
+    /**
+     * @return 시도를 알 수 없으면 null
+     */
+    static RegionAddress parse(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String normalized = WHITESPACE.matcher(SEPARATORS.matcher(address).replaceAll(" ")).replaceAll(" ").strip();
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        String[] tokens = normalized.split(" ");
+
+        SidoCode sido = SidoCode.fromName(tokens[0]);
+        if (sido == null) {
+            return null;
+        }
+
+        int next = 1;
+        String sigungu = null;
+        String gu = null;
+        if (next < tokens.length && isSigungu(tokens[next])) {
+            sigungu = tokens[next++];
+            if (sigungu.endsWith("시") && next < tokens.length && tokens[next].endsWith("구")) {
+                gu = tokens[next++];
+            }
+        }
+
+        String dong = null;
+        for (int i = next; i < tokens.length; i++) {
+            if (isDong(tokens[i])) {
+                dong = tokens[i];
+                break;
+            }
+        }
+        return new RegionAddress(sido, sigungu, gu, dong);
+    }
+
+    /**
+     * 공백 제거 (지역 key / 검색어 비교용, "수원시 영통구" → "수원시영통구")
+     */
+    static String compact(String value) {
+        return WHITESPACE.matcher(value).replaceAll("");
+    }
+
+    private static boolean isSigungu(String token) {
+        return token.length() >= 2
+                && (token.endsWith("시") || token.endsWith("군") || token.endsWith("구"));
+    }
+
+    private static boolean isDong(String token) {
+        return token.length() >= 2
+                && !Character.isDigit(token.charAt(0))
+                && (token.endsWith("동") || token.endsWith("읍") || token.endsWith("면") || token.endsWith("가"));
+    }
+}
@@ -0,0 +1,155 @@
+package com.ssafy.wtd.backend.service.station;
+
+import java.util.Arrays;
+
+/**
+ * 충전소 좌표 uniform grid 인덱스 (불변)
+ * - 위경도를 cellSize(도) 격자로 나누고 CSR 형태(cellStart / cellItems)로 저장
+ *   → 격자 1칸의 충전소는 cellItems 의 연속 구간, 객체 할당 없이 조회
+ * - bbox 조회는 겹치는 격자만 훑고, 반경 조회는 bbox 후보를 실제 거리(haversine)로 거른 뒤 정렬
+ * - 반환값은 스냅샷 내부 인덱스 (StationMarkerSnapshot 의 배열 순서)
+ */
+final class SpatialGridIndex {
+
+    private static final double EARTH_RADIUS_M = 6_371_000.0;
+    // 위도 1도 최소 길이 (적도 기준) → 후보 bbox 를 넉넉하게 잡아 경계 누락 방지
+    private static final double METERS_PER_DEGREE = 110_574.0;
+
+    // 격자 최소 크기 (약 1.1km) / 전체 격자 수 상한 (좌표 이상치로 격자가 폭증하는 것 방지)
+    private static final double MIN_CELL_DEGREES = 0.01;
+    private static final int MAX_CELLS = 1 << 20;
+
+    private final double[] lats;
+    private final double[] lngs;
+
+    private final double minLat;
+    private final double minLng;
+    private final double cellSize;
+    private final int rows;
+    private final int cols;
+
+    private final int[] cellStart;   // 길이 rows * cols + 1
+    private final int[] cellItems;   // 격자 순으로 정렬된 충전소 인덱스
+
+    SpatialGridIndex(double[] lats, double[] lngs) {
+        this.lats = lats;
+        this.lngs = lngs;
+        int n = lats.length;
+
+        double loLat = Double.POSITIVE_INFINITY, hiLat = Double.NEGATIVE_INFINITY;
+        double loLng = Double.POSITIVE_INFINITY, hiLng = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            loLat = Math.min(loLat, lats[i]);
+            hiLat = Math.max(hiLat, lats[i]);
+            loLng = Math.min(loLng, lngs[i]);
+            hiLng = Math.max(hiLng, lngs[i]);
+        }
+        if (n == 0) {
+            loLat = hiLat = loLng = hiLng = 0;
+        }
+
+        double area = Math.max(hiLat - loLat, MIN_CELL_DEGREES) * Math.max(hiLng - loLng, MIN_CELL_DEGREES);
+        this.cellSize = Math.max(MIN_CELL_DEGREES, Math.sqrt(area / MAX_CELLS));
+        this.minLat = loLat;
+        this.minLng = loLng;
+        this.rows = (int) ((hiLat - loLat) / cellSize) + 1;
+        this.cols = (int) ((hiLng - loLng) / cellSize) + 1;
+
+        // counting sort: 격자별 개수 → 누적 시작 위치 → 채우기
+        int[] cells = new int[n];
+        this.cellStart = new int[rows * cols + 1];
+        for (int i = 0; i < n; i++) {
+            cells[i] = row(lats[i]) * cols + col(lngs[i]);
+            cellStart[cells[i] + 1]++;
+        }
+        for (int c = 0; c < rows * cols; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        this.cellItems = new int[n];
+        int[] cursor = Arrays.copyOf(cellStart, rows * cols);
+        for (int i = 0; i < n; i++) {
+            cellItems[cursor[cells[i]]++] = i;
+        }
+    }
+
+    /**
+     * 위경도 사각형 범위 (경계 포함), 인덱스 오름차순
+     */
+    int[] withinBox(double minLatQ, double maxLatQ, double minLngQ, double maxLngQ) {
+        if (cellItems.length == 0 || minLatQ > maxLatQ || minLngQ > maxLngQ) {
+            return new int[0];
+        }
+        int r0 = row(minLatQ), r1 = row(maxLatQ);
+        int c0 = col(minLngQ), c1 = col(maxLngQ);
+
+        int[] result = new int[16];
+        int size = 0;
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                for (int p = cellStart[cell]; p < cellStart[cell + 1]; p++) {
+                    int i = cellItems[p];
+                    if (lats[i] >= minLatQ && lats[i] <= maxLatQ && lngs[i] >= minLngQ && lngs[i] <= maxLngQ) {
+                        if (size == result.length) {
+                            result = Arrays.copyOf(result, size << 1);
+                        }
+                        result[size++] = i;
+                    }
+                }
+            }
+        }
+        int[] sorted = Arrays.copyOf(result, size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * 중심에서 radiusM 이내 충전소를 가까운 순으로 최대 limit 개 (limit <= 0 이면 전부)
+     */
+    int[] nearest(double lat, double lng, double radiusM, int limit) {
+        double latOffset = radiusM / METERS_PER_DEGREE;
+        // 경도 1도 길이는 극 쪽 가장자리에서 가장 짧으므로 그 위도로 계산
+        double edgeLat = Math.min(Math.abs(lat) + latOffset, 89.9);
+        double lngOffset = radiusM / (METERS_PER_DEGREE * Math.cos(Math.toRadians(edgeLat)));
+        int[] candidates = withinBox(lat - latOffset, lat + latOffset, lng - lngOffset, lng + lngOffset);
+
+        // 상위 32bit = 거리(float, 양수라 비트 순서 = 크기 순서), 하위 32bit = 인덱스
+        long[] keyed = new long[candidates.length];
+        int size = 0;
+        for (int i : candidates) {
+            double d = distanceMeters(lat, lng, lats[i], lngs[i]);
+            if (d <= radiusM) {
+                keyed[size++] = ((long) Float.floatToIntBits((float) d) << 32) | i;
+            }
+        }
+        Arrays.sort(keyed, 0, size);
+
+        int count = limit > 0 ? Math.min(limit, size) : size;
+        int[] result = new int[count];
+        for (int k = 0; k < count; k++) {
+            result[k] = (int) keyed[k];
+        }
+        return result;
+    }
+
+    static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return EARTH_RADIUS_M * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    private int row(double lat) {
+        return clamp((int) Math.floor((lat - minLat) / cellSize), rows);
+    }
+
+    private int col(double lng) {
+        return clamp((int) Math.floor((lng - minLng) / cellSize), cols);
+    }
+
+    private static int clamp(int value, int size) {
+        return value < 0 ? 0 : Math.min(value, size - 1);
+    }
+}
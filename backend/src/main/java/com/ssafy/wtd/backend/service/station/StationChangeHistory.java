@@ -0,0 +1,87 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 최근 스냅샷 간 변경분 ring buffer (/stations/changes 용)
+ * - 스냅샷을 교체할 때마다 이전 스냅샷과 비교한 변경 충전소 id + 사라진 충전소(tombstone) 를 1건 기록
+ * - 용량을 넘으면 가장 오래된 것부터 버리고, 그보다 오래된 버전에서 오는 요청은 전체 스냅샷으로 대체
+ */
+final class StationChangeHistory {
+
+    private final int capacity;
+    private final int maxChangedStations;
+    private final Deque<ChangeSet> entries = new ArrayDeque<>();
+
+    StationChangeHistory(int capacity, int maxChangedStations) {
+        this.capacity = Math.max(1, capacity);
+        this.maxChangedStations = maxChangedStations;
+    }
+
+    /**
+     * before → after 변경분 기록 (스냅샷 교체 전에 호출해야 조회 쪽에서 누락이 없음)
+     */
+    synchronized void record(StationMarkerSnapshot before, StationMarkerSnapshot after) {
+        List<String> changed = new ArrayList<>();
+        for (StationMarkerDto marker : after.all()) {
+            if (isChanged(before.find(marker.getStationId()), marker)) {
+                changed.add(marker.getStationId());
+            }
+        }
+        List<StationMarkerDto> removed = new ArrayList<>();
+        for (StationMarkerDto marker : before.all()) {
+            if (after.find(marker.getStationId()) == null) {
+                removed.add(marker);
+            }
+        }
+
+        boolean overflowed = changed.size() + removed.size() > maxChangedStations;
+        entries.addLast(overflowed
+                ? new ChangeSet(before.getVersion(), after.getVersion(), List.of(), List.of(), true)
+                : new ChangeSet(before.getVersion(), after.getVersion(), changed, removed, false));
+        while (entries.size() > capacity) {
+            entries.removeFirst();
+        }
+    }
+
+    /**
+     * since → upTo 구간을 빠짐없이 잇는 변경분 (오래된 순)
+     *
+     * @return 구간을 덮지 못하면(너무 오래됨 / 중간에 대량 변경) null
+     */
+    synchronized List<ChangeSet> between(long since, long upTo) {
+        List<ChangeSet> result = new ArrayList<>();
+        long cursor = since;
+        for (ChangeSet set : entries) {
+            if (set.toVersion() <= since || set.toVersion() > upTo) {
+                continue;
+            }
+            if (set.fromVersion() != cursor || set.overflowed()) {
+                return null;
+            }
+            result.add(set);
+            cursor = set.toVersion();
+        }
+        return cursor == upTo ? result : null;
+    }
+
+    private static boolean isChanged(StationMarkerDto before, StationMarkerDto after) {
+        return before == null
+                || before.getAvailableCount() != after.getAvailableCount()
+                || before.getTotalCount() != after.getTotalCount()
+                || !Objects.equals(before.getMarkerColor(), after.getMarkerColor())
+                || before.getLat() != after.getLat()
+                || before.getLng() != after.getLng()
+                || !Objects.equals(before.getStationName(), after.getStationName());
+    }
+
+    record ChangeSet(long fromVersion, long toVersion, List<String> changedIds,
+                     List<StationMarkerDto> removed, boolean overflowed) {
+    }
+}
@@ -0,0 +1,239 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.StationClusterDto;
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * zoom 별 충전소 클러스터 (스냅샷 1개에 종속, 불변 데이터에서 lazy 계산)
+ * - zoom z 의 타일 1개를 2^CELL_BITS x 2^CELL_BITS 셀로 나누고 같은 셀의 충전소를 하나로 집계
+ * - MAX_ZOOM 은 충전소에서 직접, 그보다 낮은 zoom 은 한 단계 위 zoom 의 클러스터 4칸을 합쳐서 계산
+ *   → 전국 화면(낮은 zoom)도 충전소 전체가 아니라 위 단계 클러스터 수만큼만 훑는다
+ * - 계산된 zoom 은 스냅샷이 교체될 때까지 재사용
+ */
+final class StationClusterIndex {
+
+    static final int MAX_ZOOM = 16;
+
+    // 타일 1개(256px) 를 8 x 8 셀(약 32px)로 분할
+    private static final int CELL_BITS = 3;
+
+    // key = (cellY << COORD_BITS) | cellX, 정렬 시 하위 INDEX_BITS 에 원래 위치를 붙임
+    private static final int COORD_BITS = 20;
+    private static final int INDEX_BITS = 23;
+    private static final long COORD_MASK = (1L << COORD_BITS) - 1;
+
+    private static final int GREEN = 0;
+    private static final int BLUE = 1;
+    private static final int GRAY = 2;
+
+    private final List<StationMarkerDto> markers;
+    private final double[] lats;
+    private final double[] lngs;
+
+    private final AtomicReferenceArray<Level> levels = new AtomicReferenceArray<>(MAX_ZOOM + 1);
+
+    StationClusterIndex(List<StationMarkerDto> markers, double[] lats, double[] lngs) {
+        if (markers.size() >= 1 << INDEX_BITS) {
+            throw new IllegalArgumentException("Too many stations for cluster index: " + markers.size());
+        }
+        this.markers = markers;
+        this.lats = lats;
+        this.lngs = lngs;
+    }
+
+    /**
+     * bbox 와 겹치는 zoom 레벨 클러스터
+     */
+    List<StationClusterDto> clusters(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        int z = Math.max(0, Math.min(zoom, MAX_ZOOM));
+        int bits = z + CELL_BITS;
+        Level level = level(z);
+
+        int x0 = WebMercator.cell(WebMercator.x(minLng), bits);
+        int x1 = WebMercator.cell(WebMercator.x(maxLng), bits);
+        int y0 = WebMercator.cell(WebMercator.y(maxLat), bits);   // 북쪽이 y 가 작음
+        int y1 = WebMercator.cell(WebMercator.y(minLat), bits);
+
+        List<StationClusterDto> result = new ArrayList<>();
+        if (x0 > x1 || y0 > y1) {
+            return result;
+        }
+
+        if ((long) (y1 - y0 + 1) > level.size()) {
+            // 행 수가 클러스터 수보다 많으면 전체 scan 이 더 싸다
+            for (int i = 0; i < level.size(); i++) {
+                long key = level.keys[i];
+                int x = (int) (key & COORD_MASK);
+                int y = (int) (key >>> COORD_BITS);
+                if (x >= x0 && x <= x1 && y >= y0 && y <= y1) {
+                    result.add(toDto(level, i));
+                }
+            }
+            return result;
+        }
+
+        for (int y = y0; y <= y1; y++) {
+            long lo = ((long) y << COORD_BITS) | x0;
+            long hi = ((long) y << COORD_BITS) | x1;
+            int p = Arrays.binarySearch(level.keys, lo);
+            for (p = p < 0 ? -p - 1 : p; p < level.size() && level.keys[p] <= hi; p++) {
+                result.add(toDto(level, p));
+            }
+        }
+        return result;
+    }
+
+    private StationClusterDto toDto(Level level, int i) {
+        int count = level.count[i];
+        int single = level.single[i];
+        return new StationClusterDto(
+                level.sumLat[i] / count,
+                level.sumLng[i] / count,
+                count,
+                level.available[i],
+                level.total[i],
+                dominantColor(level.colors[i * 3 + GREEN], level.colors[i * 3 + BLUE], level.colors[i * 3 + GRAY]),
+                single >= 0 ? markers.get(single).getStationId() : null);
+    }
+
+    private Level level(int zoom) {
+        Level level = levels.get(zoom);
+        if (level != null) {
+            return level;
+        }
+        synchronized (this) {
+            level = levels.get(zoom);
+            if (level == null) {
+                level = zoom == MAX_ZOOM ? fromStations() : fromFinerLevel(level(zoom + 1));
+                levels.set(zoom, level);
+            }
+            return level;
+        }
+    }
+
+    private Level fromStations() {
+        int n = markers.size();
+        int bits = MAX_ZOOM + CELL_BITS;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = key(WebMercator.cell(WebMercator.x(lngs[i]), bits), WebMercator.cell(WebMercator.y(lats[i]), bits));
+        }
+
+        Level stations = new Level(n);
+        for (int i = 0; i < n; i++) {
+            StationMarkerDto marker = markers.get(i);
+            stations.count[i] = 1;
+            stations.sumLat[i] = lats[i];
+            stations.sumLng[i] = lngs[i];
+            stations.available[i] = marker.getAvailableCount();
+            stations.total[i] = marker.getTotalCount();
+            stations.colors[i * 3 + colorIndex(marker.getMarkerColor())] = 1;
+            stations.single[i] = i;
+        }
+        return group(stations, keys);
+    }
+
+    private Level fromFinerLevel(Level finer) {
+        long[] keys = new long[finer.size()];
+        for (int i = 0; i < keys.length; i++) {
+            long key = finer.keys[i];
+            keys[i] = key((int) (key & COORD_MASK) >> 1, (int) (key >>> COORD_BITS) >> 1);
+        }
+        return group(finer, keys);
+    }
+
+    /**
+     * 같은 key 끼리 합산 (key 정렬 후 연속 구간 집계)
+     */
+    private static Level group(Level source, long[] keys) {
+        int n = keys.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = (keys[i] << INDEX_BITS) | i;
+        }
+        Arrays.sort(packed);
+
+        int groups = 0;
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || (packed[i] >>> INDEX_BITS) != (packed[i - 1] >>> INDEX_BITS)) {
+                groups++;
+            }
+        }
+
+        Level level = new Level(groups);
+        int g = -1;
+        for (int i = 0; i < n; i++) {
+            long key = packed[i] >>> INDEX_BITS;
+            int src = (int) (packed[i] & ((1L << INDEX_BITS) - 1));
+            if (g < 0 || level.keys[g] != key) {
+                g++;
+                level.keys[g] = key;
+                level.single[g] = source.single[src];
+            } else {
+                level.single[g] = -1;
+            }
+            level.count[g] += source.count[src];
+            level.sumLat[g] += source.sumLat[src];
+            level.sumLng[g] += source.sumLng[src];
+            level.available[g] += source.available[src];
+            level.total[g] += source.total[src];
+            for (int c = 0; c < 3; c++) {
+                level.colors[g * 3 + c] += source.colors[src * 3 + c];
+            }
+        }
+        return level;
+    }
+
+    private static long key(int x, int y) {
+        return ((long) y << COORD_BITS) | x;
+    }
+
+    private static int colorIndex(String markerColor) {
+        if ("GREEN".equals(markerColor)) {
+            return GREEN;
+        }
+        return "BLUE".equals(markerColor) ? BLUE : GRAY;
+    }
+
+    private static String dominantColor(int green, int blue, int gray) {
+        if (green >= blue && green >= gray) {
+            return "GREEN";
+        }
+        return blue >= gray ? "BLUE" : "GRAY";
+    }
+
+    /**
+     * zoom 1단계의 클러스터 목록 (key 오름차순, struct of arrays)
+     */
+    private static final class Level {
+
+        final long[] keys;
+        final int[] count;
+        final double[] sumLat;
+        final double[] sumLng;
+        final int[] available;
+        final int[] total;
+        final int[] colors;     // 클러스터당 GREEN / BLUE / GRAY 충전소 수 3칸
+        final int[] single;     // 충전소가 1개면 스냅샷 인덱스, 아니면 -1
+
+        Level(int size) {
+            this.keys = new long[size];
+            this.count = new int[size];
+            this.sumLat = new double[size];
+            this.sumLng = new double[size];
+            this.available = new int[size];
+            this.total = new int[size];
+            this.colors = new int[size * 3];
+            this.single = new int[size];
+        }
+
+        int size() {
+            return keys.length;
+        }
+    }
+}
@@ -1,21 +1,137 @@
 package com.ssafy.wtd.backend.service.station;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ssafy.wtd.backend.dto.station.ChargerStatusDto;
 import com.ssafy.wtd.backend.dto.station.ChargerSummaryDto;
+import com.ssafy.wtd.backend.dto.station.StationChargerRow;
+import com.ssafy.wtd.backend.dto.station.StationDetailCacheStatsDto;
 import com.ssafy.wtd.backend.dto.station.StationDetailDto;
 import com.ssafy.wtd.backend.repository.station.StationDetailRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 충전소 상세 조회 (read-through 캐시)
+ * - 완성된 StationDetailDto 를 Caffeine(W-TinyLFU) 에 보관, 크기는 충전기 수 기준 weight 로 제한
+ * - 동기화가 충전기를 저장하면 해당 충전소만 커밋 후 무효화 → 변경 전까지는 DB 를 타지 않음
+ * - expire 는 무효화 누락에 대비한 안전장치
+ */
 @Service
-@RequiredArgsConstructor
 public class StationDetailService {
 
+    // IN (...) 1회당 충전소 수
+    private static final int BATCH_QUERY_SIZE = 500;
+
     private final StationDetailRepository stationDetailRepository;
+    private final Cache<String, StationDetailDto> cache;
+    private final long maxWeight;
+    private final LongAdder invalidations = new LongAdder();
+    private final AtomicLong invalidationGeneration = new AtomicLong();   // 무효화마다 증가 (bulk load 검증용)
+
+    public StationDetailService(
+            StationDetailRepository stationDetailRepository,
+            @Value("${station.detail-cache.max-weight:200000}") long maxWeight,
+            @Value("${station.detail-cache.expire-minutes:30}") long expireMinutes) {
+        this.stationDetailRepository = stationDetailRepository;
+        this.maxWeight = maxWeight;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((String id, StationDetailDto detail) -> 1 + detail.getChargers().size())
+                .expireAfterWrite(Duration.ofMinutes(expireMinutes))
+                .recordStats()
+                .build();
+    }
 
+    /**
+     * @return 없는 충전소면 null (캐시하지 않음)
+     */
     public StationDetailDto getStationDetail(String stationId) {
+        return cache.get(stationId, this::load);
+    }
+
+    /**
+     * 여러 충전소 상세 (요청 순서 유지, 없는 충전소는 제외)
+     * - 캐시에 없는 충전소만 모아 충전소 / 충전기를 각각 IN 조회 1번으로 로드 후 메모리에서 묶음
+     */
+    public List<StationDetailDto> getStationDetails(Collection<String> stationIds) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String id : stationIds) {
+            if (id != null && !id.isBlank()) {
+                ids.add(id.trim());
+            }
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, StationDetailDto> found = new HashMap<>(cache.getAllPresent(ids));
+        List<String> missing = new ArrayList<>();
+        for (String id : ids) {
+            if (!found.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            // bulk load 는 키별로 invalidate 와 원자적이지 않음
+            // → 로드 도중 무효화가 있었으면 무효화 이전 DB 값일 수 있으므로 방금 넣은 값을 다시 제거
+            long generation = invalidationGeneration.get();
+            Map<String, StationDetailDto> loaded = loadAll(missing);
+            cache.putAll(loaded);
+            if (invalidationGeneration.get() != generation) {
+                cache.invalidateAll(loaded.keySet());
+            }
+            found.putAll(loaded);
+        }
+
+        List<StationDetailDto> result = new ArrayList<>(found.size());
+        for (String id : ids) {
+            StationDetailDto detail = found.get(id);
+            if (detail != null) {
+                result.add(detail);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 동기화 writer 가 커밋 후 호출
+     */
+    public void invalidate(Collection<String> stationIds) {
+        invalidationGeneration.incrementAndGet();
+        cache.invalidateAll(stationIds);
+        invalidations.add(stationIds.size());
+    }
+
+    public void invalidateAll() {
+        invalidationGeneration.incrementAndGet();
+        invalidations.add(cache.estimatedSize());
+        cache.invalidateAll();
+    }
+
+    public StationDetailCacheStatsDto getCacheStats() {
+        CacheStats stats = cache.stats();
+        long weighted = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return new StationDetailCacheStatsDto(
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(),
+                invalidations.sum(), cache.estimatedSize(), weighted, maxWeight);
+    }
+
+    private StationDetailDto load(String stationId) {
 
         StationDetailDto station = stationDetailRepository.findStationInfo(stationId);
         if (station == null) {
@@ -38,36 +154,86 @@ public class StationDetailService {
                 chargers);
     }
 
+    /**
+     * 캐시에 없는 충전소들을 한꺼번에 로드 (없는 충전소는 결과에서 빠짐)
+     */
+    private Map<String, StationDetailDto> loadAll(List<String> ids) {
+        Map<String, StationDetailDto> result = new HashMap<>(ids.size() * 2);
+
+        for (int from = 0; from < ids.size(); from += BATCH_QUERY_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + BATCH_QUERY_SIZE, ids.size()));
+
+            List<StationDetailDto> stations = stationDetailRepository.findStationInfos(chunk);
+            if (stations.isEmpty()) {
+                continue;
+            }
+
+            Map<String, List<ChargerSummaryDto>> chargersByStation = new HashMap<>(stations.size() * 2);
+            for (StationChargerRow row : stationDetailRepository.findChargersByStationIds(chunk)) {
+                chargersByStation.computeIfAbsent(row.getStationId(), k -> new ArrayList<>())
+                        .add(toViewDto(row.getChargerId(), row.getPowerType(), row.getChargerType(), row.getStatus()));
+            }
+
+            for (StationDetailDto station : stations) {
+                result.put(station.getStationId(), new StationDetailDto(
+                        station.getStationId(),
+                        station.getStationName(),
+                        station.getAddress(),
+                        station.getLat(),
+                        station.getLng(),
+                        chargersByStation.getOrDefault(station.getStationId(), new ArrayList<>())));
+            }
+        }
+        return result;
+    }
+
     /**
      * DB 조회 결과(원본) → UI 표시용(라벨/색상 포함) DTO로 변환
      */
-    private ChargerSummaryDto toViewDto(ChargerSummaryDto raw) {
+    static ChargerSummaryDto toViewDto(ChargerSummaryDto raw) {
+        return toViewDto(raw.getChargerId(), raw.getPowerType(), raw.getChargerType(), raw.getStatus());
+    }
+
+    static ChargerSummaryDto toViewDto(String chargerId, String powerType, String chargerType, String status) {
 
-        StatusView view = mapStatus(raw.getStatus());
+        StatusView view = mapStatus(status);
 
         return new ChargerSummaryDto(
-                raw.getChargerId(),
-                raw.getPowerType(),
-                raw.getChargerType(),
-                raw.getStatus(),
+                chargerId,
+                powerType,
+                chargerType,
+                status,
                 view.statusLabel,
                 view.markerColor);
     }
 
+    /**
+     * 상태만 바뀐 충전기 → push 이벤트용 DTO (라벨 / 색상 포함)
+     */
+    static ChargerStatusDto toStatusDto(String chargerId, String status) {
+        StatusView view = mapStatus(status);
+        return new ChargerStatusDto(chargerId, status, view.statusLabel, view.markerColor);
+    }
+
     /**
      * status 코드 → (라벨, 색상) 매핑
      * ※ 현재 DB status 설계(0=사용가능, 3=사용중, 그 외=불가) 기준
      */
-    private StatusView mapStatus(String status) {
+    private static StatusView mapStatus(String status) {
         if ("0".equals(status) || "2".equals(status)) { // 0: Available, 2: 점검(but marked available in UI)
-            return new StatusView("사용 가능", "BLUE");
+            return AVAILABLE;
         }
         if ("3".equals(status)) {
-            return new StatusView("충전 중", "ORANGE");
+            return CHARGING;
         }
-        return new StatusView("사용 불가", "GRAY");
+        return UNAVAILABLE;
     }
 
+    // 상태별 라벨 / 색상은 고정값이므로 충전기마다 새로 만들지 않음
+    private static final StatusView AVAILABLE = new StatusView("사용 가능", "BLUE");
+    private static final StatusView CHARGING = new StatusView("충전 중", "ORANGE");
+    private static final StatusView UNAVAILABLE = new StatusView("사용 불가", "GRAY");
+
     private static class StatusView {
         private final String statusLabel;
         private final String markerColor;
@@ -0,0 +1,162 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.RegionCountDto;
+import com.ssafy.wtd.backend.dto.station.StationClusterDto;
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+import com.ssafy.wtd.backend.model.SidoCode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 시점의 전체 충전소 마커 (불변)
+ * - 동기화가 끝날 때마다 새로 만들어 통째로 교체하므로 읽기 쪽은 lock 이 필요 없다
+ * - 마커 색상은 빌드 시 한 번만 계산
+ * - 위경도 / 검색 문자열은 인덱스가 같은 primitive 배열로 만들어 각 색인에 넘김
+ * - 좌표 조회는 빌드 시 만든 격자 인덱스(SpatialGridIndex)로 처리
+ * - zoom 별 클러스터는 요청된 zoom 만 lazy 계산 후 스냅샷 수명 동안 재사용
+ * - 키워드 검색 / 자동완성은 이름·주소 bigram 역색인(StationSearchIndex)으로 처리
+ * - 지역 검색 / 지역별 집계는 주소를 분해한 지역 posting list(StationRegionIndex)로 처리
+ */
+public final class StationMarkerSnapshot {
+
+    private final long version;
+    private final LocalDateTime builtAt;
+    private final long buildMs;
+
+    private final List<StationMarkerDto> markers;
+    private final Map<String, StationMarkerDto> markerById;
+    private final SpatialGridIndex spatialIndex;
+    private final StationClusterIndex clusterIndex;
+    private final StationSearchIndex searchIndex;
+    private final StationRegionIndex regionIndex;
+
+    StationMarkerSnapshot(long version, LocalDateTime builtAt, long buildMs,
+                          List<StationMarkerDto> markers, List<String> rawAddresses, List<RegionAddress> regions) {
+        int size = markers.size();
+        this.version = version;
+        this.builtAt = builtAt;
+        this.buildMs = buildMs;
+        this.markers = Collections.unmodifiableList(new ArrayList<>(markers));
+        Map<String, StationMarkerDto> byId = new HashMap<>(size * 2);
+        double[] lats = new double[size];
+        double[] lngs = new double[size];
+        String[] names = new String[size];        // 소문자
+        String[] addresses = new String[size];    // 소문자
+
+        for (int i = 0; i < size; i++) {
+            StationMarkerDto marker = markers.get(i);
+            byId.put(marker.getStationId(), marker);
+            lats[i] = marker.getLat();
+            lngs[i] = marker.getLng();
+            names[i] = StationSearchIndex.normalize(marker.getStationName());
+            addresses[i] = StationSearchIndex.normalize(rawAddresses.get(i));
+        }
+        this.markerById = byId;
+        this.spatialIndex = new SpatialGridIndex(lats, lngs);
+        this.clusterIndex = new StationClusterIndex(this.markers, lats, lngs);
+        this.searchIndex = new StationSearchIndex(names, addresses);
+        this.regionIndex = new StationRegionIndex(this.markers, regions);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    public long getBuildMs() {
+        return buildMs;
+    }
+
+    public int size() {
+        return markers.size();
+    }
+
+    /**
+     * 전체 마커 (읽기 전용)
+     */
+    public List<StationMarkerDto> all() {
+        return markers;
+    }
+
+    /**
+     * stationId 로 마커 조회 (없으면 null)
+     */
+    public StationMarkerDto find(String stationId) {
+        return markerById.get(stationId);
+    }
+
+    /**
+     * 위경도 사각형 범위 (경계 포함)
+     */
+    public List<StationMarkerDto> within(double minLat, double maxLat, double minLng, double maxLng) {
+        return markersAt(spatialIndex.withinBox(minLat, maxLat, minLng, maxLng));
+    }
+
+    /**
+     * 중심에서 radiusM 이내 충전소, 실제 거리가 가까운 순 (limit <= 0 이면 전부)
+     */
+    public List<StationMarkerDto> nearest(double lat, double lng, double radiusM, int limit) {
+        return markersAt(spatialIndex.nearest(lat, lng, radiusM, limit));
+    }
+
+    /**
+     * bbox 영역의 zoom 레벨 클러스터
+     */
+    public List<StationClusterDto> clusters(double minLat, double maxLat, double minLng, double maxLng, int zoom) {
+        return clusterIndex.clusters(minLat, maxLat, minLng, maxLng, zoom);
+    }
+
+    /**
+     * 시도(city) + 시군구 / 구 / 읍면동(district) 이 일치하는 충전소
+     * (city 는 서울 / 서울시 / 서울특별시 모두 허용, district 가 비어 있으면 시도 전체)
+     */
+    public List<StationMarkerDto> byRegion(String city, String district) {
+        SidoCode sido = SidoCode.fromName(city);
+        if (sido == null) {
+            return List.of();
+        }
+        return markersAt(regionIndex.lookup(sido, district));
+    }
+
+    /**
+     * city 가 없으면 시도별, 있으면 해당 시도의 시군구별 충전소 집계
+     */
+    public List<RegionCountDto> regionCounts(String city) {
+        if (city == null || city.isBlank()) {
+            return regionIndex.counts(null);
+        }
+        SidoCode sido = SidoCode.fromName(city);
+        return sido == null ? List.of() : regionIndex.counts(sido);
+    }
+
+    /**
+     * 이름 또는 주소에 keyword 의 모든 단어가 포함된 충전소, 관련도 순
+     * (이름 일치 > 이름 시작 > 이름 포함 > 주소 포함, page 는 0부터, size <= 0 이면 전체)
+     */
+    public List<StationMarkerDto> search(String keyword, int page, int size) {
+        return markersAt(searchIndex.search(keyword, page, size));
+    }
+
+    /**
+     * 이름이 prefix 로 시작하는 충전소 (이름 속 단어 시작 포함, 짧은 이름 우선)
+     */
+    public List<StationMarkerDto> autocomplete(String prefix, int limit) {
+        return markersAt(searchIndex.autocomplete(prefix, limit));
+    }
+
+    private List<StationMarkerDto> markersAt(int[] indexes) {
+        List<StationMarkerDto> result = new ArrayList<>(indexes.length);
+        for (int i : indexes) {
+            result.add(markers.get(i));
+        }
+        return result;
+    }
+}
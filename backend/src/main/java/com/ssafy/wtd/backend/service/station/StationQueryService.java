@@ -1,85 +1,103 @@
 package com.ssafy.wtd.backend.service.station;
 
+import com.ssafy.wtd.backend.dto.station.RegionCountDto;
+import com.ssafy.wtd.backend.dto.station.StationChangesDto;
+import com.ssafy.wtd.backend.dto.station.StationClusterDto;
 import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
-import com.ssafy.wtd.backend.repository.station.StationQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+/**
+ * 지도 마커 조회
+ * 모든 조회는 동기화 후 만들어지는 메모리 스냅샷에서 처리 (DB 조회 없음)
+ */
 @Service
 @RequiredArgsConstructor
 public class StationQueryService {
 
-    private final StationQueryRepository stationQueryRepository;
+    private final StationSnapshotService stationSnapshotService;
 
     /**
      * 초기 전체 조회
      */
     public List<StationMarkerDto> getAllStationMarkers() {
-
-        List<StationMarkerDto> stations = stationQueryRepository.findAllStationMarkers();
-
-        applyMarkerColor(stations);
-        return stations;
+        return stationSnapshotService.current().all();
     }
 
     /**
      * 좌표 기반 조회 (Phase 2-2)
+     * 반경 내 충전소를 가까운 순으로 반환 (limit > 0 이면 가까운 limit 개만)
      */
     public List<StationMarkerDto> getNearbyStationMarkers(
             double lat,
             double lng,
-            int radius) {
-
-        // 대략적인 위경도 거리 환산 (미터 기준)
-        double latOffset = radius / 111_000.0;
-        double lngOffset = radius / (111_000.0 * Math.cos(Math.toRadians(lat)));
+            int radius,
+            int limit) {
+        return stationSnapshotService.current().nearest(lat, lng, radius, limit);
+    }
 
-        double minLat = lat - latOffset;
-        double maxLat = lat + latOffset;
-        double minLng = lng - lngOffset;
-        double maxLng = lng + lngOffset;
+    /**
+     * 지도 화면 영역(bbox) 조회
+     */
+    public List<StationMarkerDto> getStationMarkersInBounds(
+            double minLat,
+            double maxLat,
+            double minLng,
+            double maxLng) {
+        return stationSnapshotService.current().within(minLat, maxLat, minLng, maxLng);
+    }
 
-        List<StationMarkerDto> stations = stationQueryRepository.findNearbyStationMarkers(
-                minLat, maxLat, minLng, maxLng);
+    /**
+     * 축소 지도용 클러스터 조회
+     *
+     * @param bbox "minLng,minLat,maxLng,maxLat"
+     * @param zoom 지도 zoom 레벨 (0 ~ 16, 그 이상은 16 으로 처리)
+     */
+    public List<StationClusterDto> getStationClusters(String bbox, int zoom) {
+        Bbox area = Bbox.parse(bbox);
+        return stationSnapshotService.current().clusters(
+                area.minLat(), area.maxLat(), area.minLng(), area.maxLng(), zoom);
+    }
 
-        applyMarkerColor(stations);
-        return stations;
+    /**
+     * since 버전 이후 변경분 (bbox = minLng,minLat,maxLng,maxLat, 생략 시 전체)
+     */
+    public StationChangesDto getStationChanges(long since, String bbox) {
+        Bbox area = bbox == null || bbox.isBlank() ? null : Bbox.parse(bbox);
+        return stationSnapshotService.changesSince(since, area);
     }
 
     /**
      * 지역별 검색 (city, district)
+     * 주소를 시도 / 시군구 / 읍면동으로 분해해 둔 색인에서 정확히 일치하는 지역만 조회
      */
     public List<StationMarkerDto> getStationsByCityAndDistrict(
             String city,
             String district) {
-        List<StationMarkerDto> stations = stationQueryRepository.findByCityAndDistrict(city, district);
+        return stationSnapshotService.current().byRegion(city, district);
+    }
 
-        applyMarkerColor(stations);
-        return stations;
+    /**
+     * 지역별 충전소 집계 (city 미지정 시 시도별, 지정 시 시군구별)
+     */
+    public List<RegionCountDto> getRegionCounts(String city) {
+        return stationSnapshotService.current().regionCounts(city);
     }
 
     /**
      * 키워드 검색 (이름, 주소)
+     * 관련도 순, size > 0 이면 page(0부터) 단위로 잘라서 반환
      */
-    public List<StationMarkerDto> getStationsByKeyword(String keyword) {
-        List<StationMarkerDto> stations = stationQueryRepository.findByKeyword(keyword);
-        applyMarkerColor(stations);
-        return stations;
+    public List<StationMarkerDto> getStationsByKeyword(String keyword, int page, int size) {
+        return stationSnapshotService.current().search(keyword, page, size);
     }
 
-    private void applyMarkerColor(List<StationMarkerDto> stations) {
-
-        for (StationMarkerDto s : stations) {
-
-            if (s.getTotalCount() > 0 && s.getAvailableCount() == s.getTotalCount()) {
-                s.setMarkerColor("GREEN"); // 모두 이용 가능
-            } else if (s.getAvailableCount() > 0) {
-                s.setMarkerColor("BLUE");  // 1개 이상 이용 가능 (일부 이용 가능)
-            } else {
-                s.setMarkerColor("GRAY");  // 이용 불가
-            }
-        }
+    /**
+     * 충전소 이름 자동완성
+     */
+    public List<StationMarkerDto> autocompleteStations(String prefix, int limit) {
+        return stationSnapshotService.current().autocomplete(prefix, limit);
     }
 }
@@ -0,0 +1,168 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.RegionCountDto;
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+import com.ssafy.wtd.backend.model.SidoCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지역 → 충전소 posting list (불변, 스냅샷과 함께 빌드)
+ * - 스냅샷 서비스가 충전소별로 캐시한 RegionAddress 로 아래 key 에 충전소 인덱스를 등록
+ *   zcode / zcode|시군구 / zcode|구 / zcode|시군구구 / zcode|읍면동
+ * - key 의 이름은 공백을 모두 제거해 비교 ("수원시 영통구" = "수원시영통구")
+ * - 지역 검색은 문자열 scan 없이 key 조회 1회 (O(결과 수))
+ * - 시도 / 시군구별 충전소·충전기 집계도 빌드 시 같이 계산
+ */
+final class StationRegionIndex {
+
+    // 시군구 없이 구·동 이름만 들어왔을 때 붙여볼 접미사
+    private static final String[] DISTRICT_SUFFIXES = {"", "구", "시", "군"};
+
+    private final Map<String, int[]> postings;
+    private final List<RegionCountDto> sidoCounts;
+    private final Map<String, List<RegionCountDto>> sigunguCounts;   // zcode → 시군구 집계
+
+    /**
+     * @param regions markers 와 같은 순서의 분해된 주소 (시도를 알 수 없으면 null)
+     */
+    StationRegionIndex(List<StationMarkerDto> markers, List<RegionAddress> regions) {
+        Map<String, IntList> building = new HashMap<>();
+        Map<String, Aggregate> sidoAgg = new LinkedHashMap<>();
+        Map<String, Map<String, Aggregate>> sigunguAgg = new HashMap<>();
+
+        for (int i = 0; i < markers.size(); i++) {
+            RegionAddress region = regions.get(i);
+            if (region == null) {
+                continue;
+            }
+            StationMarkerDto marker = markers.get(i);
+            String zcode = region.sido().getZcode();
+
+            add(building, zcode, i);
+            sidoAgg.computeIfAbsent(zcode, k -> new Aggregate(zcode, region.sido().getSidoName())).add(marker);
+
+            if (region.sigungu() != null) {
+                add(building, key(zcode, region.sigungu()), i);
+                sigunguAgg.computeIfAbsent(zcode, k -> new LinkedHashMap<>())
+                        .computeIfAbsent(region.sigungu(), k -> new Aggregate(key(zcode, region.sigungu()), region.sigungu()))
+                        .add(marker);
+            }
+            if (region.gu() != null) {
+                add(building, key(zcode, region.gu()), i);
+                add(building, key(zcode, region.sigungu() + region.gu()), i);
+            }
+            if (region.dong() != null) {
+                add(building, key(zcode, region.dong()), i);
+            }
+        }
+
+        Map<String, int[]> built = new HashMap<>(building.size() * 2);
+        building.forEach((k, list) -> built.put(k, list.toArray()));
+        this.postings = built;
+
+        List<RegionCountDto> sidos = new ArrayList<>();
+        for (SidoCode sido : SidoCode.values()) {
+            Aggregate agg = sidoAgg.get(sido.getZcode());
+            if (agg != null) {
+                sidos.add(agg.toDto());
+            }
+        }
+        this.sidoCounts = Collections.unmodifiableList(sidos);
+
+        Map<String, List<RegionCountDto>> sigungus = new HashMap<>();
+        sigunguAgg.forEach((zcode, byName) -> sigungus.put(zcode,
+                byName.values().stream().map(Aggregate::toDto).toList()));
+        this.sigunguCounts = sigungus;
+    }
+
+    /**
+     * 시도 + (선택) 시군구 / 구 / 읍면동 이름으로 충전소 인덱스 조회 (오름차순)
+     */
+    int[] lookup(SidoCode sido, String district) {
+        String name = district == null ? "" : RegionAddress.compact(district);
+        if (name.isEmpty()) {
+            return postings.getOrDefault(sido.getZcode(), new int[0]);
+        }
+        for (String suffix : DISTRICT_SUFFIXES) {
+            int[] found = postings.get(key(sido.getZcode(), name + suffix));
+            if (found != null) {
+                return found;
+            }
+        }
+        return new int[0];
+    }
+
+    /**
+     * sido 가 null 이면 시도별, 아니면 해당 시도의 시군구별 집계
+     */
+    List<RegionCountDto> counts(SidoCode sido) {
+        if (sido == null) {
+            return sidoCounts;
+        }
+        return sigunguCounts.getOrDefault(sido.getZcode(), List.of());
+    }
+
+    private static void add(Map<String, IntList> building, String key, int index) {
+        building.computeIfAbsent(key, k -> new IntList()).add(index);
+    }
+
+    private static String key(String zcode, String name) {
+        return zcode + "|" + RegionAddress.compact(name);
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            // 같은 충전소가 같은 key 로 두 번 들어오는 경우(구 이름 = 동 이름 등) 제외
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Aggregate {
+
+        private final String code;
+        private final String name;
+        private int stations;
+        private int available;
+        private int total;
+        private double sumLat;
+        private double sumLng;
+
+        Aggregate(String code, String name) {
+            this.code = code;
+            this.name = name;
+        }
+
+        void add(StationMarkerDto marker) {
+            stations++;
+            available += marker.getAvailableCount();
+            total += marker.getTotalCount();
+            sumLat += marker.getLat();
+            sumLng += marker.getLng();
+        }
+
+        RegionCountDto toDto() {
+            return new RegionCountDto(code, name, stations, available, total, sumLat / stations, sumLng / stations);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.ssafy.wtd.backend.service.station;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 충전소 이름 / 주소 bigram 역색인 (불변, 스냅샷과 함께 빌드)
+ * - 한글은 형태소 분석 없이도 2글자 단위로 잘 맞고, 띄어쓰기가 제각각이라 공백을 제거한 문자열로 색인
+ * - posting 은 필드별 CSR (gram 정렬 배열 + 문서 id 배열), 조회는 가장 짧은 posting 부터 교집합
+ * - bigram 교집합은 후보일 뿐이므로 contains 로 한 번 더 확인
+ * - 검색어는 공백 기준 AND, 각 단어가 이름 또는 주소에 있어야 함
+ */
+final class StationSearchIndex {
+
+    // 랭킹 점수 (단어별 합산)
+    private static final int NAME_EXACT = 100;
+    private static final int NAME_PREFIX = 60;
+    private static final int NAME_CONTAINS = 40;
+    private static final int ADDRESS_CONTAINS = 10;
+    private static final int MAX_SCORE = 1023;
+
+    // rankKey 의 이름 길이 / 문서 id 자리수 (문서 수 2^21 미만)
+    private static final int FIELD_MASK = (1 << 21) - 1;
+
+    private final String[] names;         // 공백 포함 소문자 (단어 단위 prefix 비교용)
+    private final String[] compactNames;  // 공백 제거 소문자
+    private final String[] compactAddresses;
+
+    private final Postings namePostings;
+    private final Postings addressPostings;
+
+    StationSearchIndex(String[] names, String[] addresses) {
+        int n = names.length;
+        this.names = names;
+        this.compactNames = new String[n];
+        this.compactAddresses = new String[n];
+        for (int i = 0; i < n; i++) {
+            compactNames[i] = compact(names[i]);
+            compactAddresses[i] = compact(addresses[i]);
+        }
+        this.namePostings = new Postings(compactNames);
+        this.addressPostings = new Postings(compactAddresses);
+    }
+
+    /**
+     * 키워드 검색 → 점수 내림차순 문서 id (page 는 0부터, size <= 0 이면 전체)
+     */
+    int[] search(String keyword, int page, int size) {
+        String[] terms = terms(keyword);
+        if (terms.length == 0) {
+            return new int[0];
+        }
+
+        // 첫 단어로 후보를 만들고 나머지 단어는 점수 계산하며 확인
+        int[] candidates = union(match(namePostings, compactNames, terms[0]),
+                match(addressPostings, compactAddresses, terms[0]));
+
+        long[] ranked = new long[candidates.length];
+        int matched = 0;
+        for (int doc : candidates) {
+            int score = score(doc, terms);
+            if (score > 0) {
+                ranked[matched++] = rankKey(MAX_SCORE - Math.min(score, MAX_SCORE), compactNames[doc].length(), doc);
+            }
+        }
+        Arrays.sort(ranked, 0, matched);
+
+        long offset = (long) Math.max(page, 0) * size;
+        int from = size > 0 ? (int) Math.min(offset, matched) : 0;
+        int to = size > 0 ? Math.min(from + size, matched) : matched;
+        return docsOf(ranked, from, to);
+    }
+
+    /**
+     * 이름 자동완성 → 이름 또는 이름 속 단어가 prefix 로 시작하는 문서 id (짧은 이름 우선)
+     */
+    int[] autocomplete(String prefix, int limit) {
+        String p = compact(normalize(prefix));
+        if (p.isEmpty()) {
+            return new int[0];
+        }
+
+        int[] candidates = match(namePostings, compactNames, p);
+        long[] ranked = new long[candidates.length];
+        int matched = 0;
+        for (int doc : candidates) {
+            if (compactNames[doc].startsWith(p)) {
+                ranked[matched++] = rankKey(0, compactNames[doc].length(), doc);
+            } else if (hasWordStartingWith(names[doc], p)) {
+                ranked[matched++] = rankKey(1, compactNames[doc].length(), doc);
+            }
+        }
+        Arrays.sort(ranked, 0, matched);
+
+        return docsOf(ranked, 0, limit > 0 ? Math.min(limit, matched) : matched);
+    }
+
+    /**
+     * (우선순위 오름차순, 이름 길이 오름차순, 문서 id) 순으로 정렬되는 long
+     */
+    private static long rankKey(int priority, int nameLength, int doc) {
+        return ((long) priority << 42) | ((long) Math.min(nameLength, FIELD_MASK) << 21) | doc;
+    }
+
+    private static int[] docsOf(long[] ranked, int from, int to) {
+        int[] result = new int[to - from];
+        for (int i = from; i < to; i++) {
+            result[i - from] = (int) (ranked[i] & FIELD_MASK);
+        }
+        return result;
+    }
+
+    private int score(int doc, String[] terms) {
+        int total = 0;
+        for (String term : terms) {
+            String name = compactNames[doc];
+            int score;
+            if (name.equals(term)) {
+                score = NAME_EXACT;
+            } else if (name.startsWith(term)) {
+                score = NAME_PREFIX;
+            } else if (name.contains(term)) {
+                score = NAME_CONTAINS;
+            } else if (compactAddresses[doc].contains(term)) {
+                score = ADDRESS_CONTAINS;
+            } else {
+                return 0;   // AND 조건 불만족
+            }
+            total += score;
+        }
+        return total;
+    }
+
+    /**
+     * term 이 포함된 문서 id (오름차순)
+     */
+    private static int[] match(Postings postings, String[] texts, String term) {
+        if (term.length() < 2) {
+            // 1글자는 bigram 이 없으므로 scan
+            int[] result = new int[texts.length];
+            int size = 0;
+            for (int doc = 0; doc < texts.length; doc++) {
+                if (texts[doc].indexOf(term.charAt(0)) >= 0) {
+                    result[size++] = doc;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        long[] grams = distinctGrams(term);
+        int[] slots = new int[grams.length];
+        for (int g = 0; g < grams.length; g++) {
+            slots[g] = postings.slot(grams[g]);
+            if (slots[g] < 0) {
+                return new int[0];
+            }
+        }
+
+        // 가장 짧은 posting 을 기준으로 나머지와 교집합
+        int shortest = 0;
+        for (int g = 1; g < slots.length; g++) {
+            if (postings.length(slots[g]) < postings.length(slots[shortest])) {
+                shortest = g;
+            }
+        }
+        int[] candidates = postings.copy(slots[shortest]);
+        for (int g = 0; g < slots.length && candidates.length > 0; g++) {
+            if (g != shortest) {
+                candidates = postings.retain(candidates, slots[g]);
+            }
+        }
+
+        int[] result = new int[candidates.length];
+        int size = 0;
+        for (int doc : candidates) {
+            if (texts[doc].contains(term)) {
+                result[size++] = doc;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0, j = 0, size = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                result[size++] = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                result[size++] = b[j++];
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static boolean hasWordStartingWith(String name, String prefix) {
+        for (String word : name.split("\\s+")) {
+            if (word.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] terms(String keyword) {
+        String normalized = normalize(keyword);
+        return normalized.isEmpty() ? new String[0] : normalized.split("\\s+");
+    }
+
+    private static long[] distinctGrams(String text) {
+        long[] grams = new long[text.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(text, i);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * text[i], text[i+1] 두 글자를 32bit 로 묶은 값 (부호 없는 정렬을 위해 long 으로 보관)
+     */
+    private static long gram(String text, int i) {
+        return ((long) text.charAt(i) << 16) | text.charAt(i + 1);
+    }
+
+    static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String compact(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * gram → 문서 id 목록 (CSR)
+     */
+    private static final class Postings {
+
+        private static final int DOC_BITS = 31;
+        private static final long DOC_MASK = (1L << DOC_BITS) - 1;
+
+        private final long[] grams;    // 정렬된 gram
+        private final int[] offsets;   // grams[i] 의 문서는 docs[offsets[i] .. offsets[i+1])
+        private final int[] docs;
+
+        Postings(String[] texts) {
+            // (gram 32bit, doc 31bit) 쌍을 양수 long 하나로 묶어 정렬 → 중복 제거하며 CSR 구성
+            long[] pairs = new long[1024];
+            int size = 0;
+            for (int doc = 0; doc < texts.length; doc++) {
+                String text = texts[doc];
+                for (int i = 0; i + 1 < text.length(); i++) {
+                    if (size == pairs.length) {
+                        pairs = Arrays.copyOf(pairs, size << 1);
+                    }
+                    pairs[size++] = (gram(text, i) << DOC_BITS) | doc;
+                }
+            }
+            Arrays.sort(pairs, 0, size);
+
+            long[] gramBuf = new long[size];
+            int[] offsetBuf = new int[size + 1];
+            int[] docBuf = new int[size];
+            int gramCount = 0, docCount = 0;
+            for (int i = 0; i < size; i++) {
+                if (i > 0 && pairs[i] == pairs[i - 1]) {
+                    continue;
+                }
+                long gram = pairs[i] >>> DOC_BITS;
+                if (gramCount == 0 || gramBuf[gramCount - 1] != gram) {
+                    gramBuf[gramCount] = gram;
+                    offsetBuf[gramCount] = docCount;
+                    gramCount++;
+                }
+                docBuf[docCount++] = (int) (pairs[i] & DOC_MASK);
+            }
+            offsetBuf[gramCount] = docCount;
+
+            this.grams = Arrays.copyOf(gramBuf, gramCount);
+            this.offsets = Arrays.copyOf(offsetBuf, gramCount + 1);
+            this.docs = Arrays.copyOf(docBuf, docCount);
+        }
+
+        /**
+         * gram 의 위치 (없으면 -1)
+         */
+        int slot(long gram) {
+            int i = Arrays.binarySearch(grams, gram);
+            return i < 0 ? -1 : i;
+        }
+
+        int length(int slot) {
+            return offsets[slot + 1] - offsets[slot];
+        }
+
+        int[] copy(int slot) {
+            return Arrays.copyOfRange(docs, offsets[slot], offsets[slot + 1]);
+        }
+
+        /**
+         * candidates 중 slot 의 posting 에도 있는 문서만 (둘 다 오름차순)
+         */
+        int[] retain(int[] candidates, int slot) {
+            int[] result = new int[candidates.length];
+            int i = 0, j = offsets[slot], end = offsets[slot + 1], size = 0;
+            while (i < candidates.length && j < end) {
+                if (candidates[i] < docs[j]) {
+                    i++;
+                } else if (candidates[i] > docs[j]) {
+                    j++;
+                } else {
+                    result[size++] = candidates[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.StationChangesDto;
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+import com.ssafy.wtd.backend.dto.station.StationSnapshotInfoDto;
+import com.ssafy.wtd.backend.dto.station.StationSnapshotRow;
+import com.ssafy.wtd.backend.repository.station.StationQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 충전소 마커 스냅샷 관리
+ * - 동기화가 끝나면 DB 에서 한 번 집계해 새 스냅샷을 만들고 참조를 교체
+ * - 조회 API 는 volatile 참조만 읽으므로 DB 를 타지 않고 lock 도 없음
+ * - 교체할 때마다 이전 스냅샷과의 차이를 기록해 since 버전 이후 변경분만 내려줄 수 있음
+ * - 주소 분해 결과(RegionAddress)는 충전소별로 보관해 주소가 바뀐 충전소만 다시 분해
+ */
+@Slf4j
+@Service
+public class StationSnapshotService {
+
+    private final StationQueryRepository stationQueryRepository;
+    private final StationChangeHistory history;
+
+    // 재시작해도 이전 프로세스가 내려준 버전보다 커지도록 현재 시각(ms)에서 시작
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private volatile StationMarkerSnapshot snapshot;
+
+    // stationId → 마지막으로 분해한 주소 (rebuild 안에서만 접근, synchronized)
+    private Map<String, ParsedAddress> parsedAddresses = Map.of();
+
+    public StationSnapshotService(
+            StationQueryRepository stationQueryRepository,
+            @Value("${station.changes.history-size:64}") int historySize,
+            @Value("${station.changes.max-changed-stations:20000}") int maxChangedStations) {
+        this.stationQueryRepository = stationQueryRepository;
+        this.history = new StationChangeHistory(historySize, maxChangedStations);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("[SNAPSHOT] Initial build failed. will retry on first request: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 스냅샷 (아직 없으면 호출 스레드에서 빌드)
+     */
+    public StationMarkerSnapshot current() {
+        StationMarkerSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return snapshot != null ? snapshot : rebuild();
+        }
+    }
+
+    /**
+     * DB 집계로 새 스냅샷을 만들어 교체 (동기화 완료 후 호출)
+     */
+    public synchronized StationMarkerSnapshot rebuild() {
+        long start = System.currentTimeMillis();
+
+        List<StationMarkerDto> markers = new ArrayList<>();
+        List<String> addresses = new ArrayList<>();
+        List<RegionAddress> regions = new ArrayList<>();
+        Map<String, ParsedAddress> previous = parsedAddresses;
+        Map<String, ParsedAddress> parsed = new HashMap<>(previous.size() * 2);
+        stationQueryRepository.streamAllStationSnapshotRows(ctx -> {
+            StationSnapshotRow row = ctx.getResultObject();
+            markers.add(new StationMarkerDto(
+                    row.getStationId(),
+                    row.getStationName(),
+                    row.getLat(),
+                    row.getLng(),
+                    row.getAvailableCount(),
+                    row.getTotalCount(),
+                    markerColorOf(row.getAvailableCount(), row.getTotalCount())));
+            addresses.add(row.getAddress());
+            ParsedAddress region = previous.get(row.getStationId());
+            if (region == null || !Objects.equals(region.address(), row.getAddress())) {
+                region = new ParsedAddress(row.getAddress(), RegionAddress.parse(row.getAddress()));
+            }
+            parsed.put(row.getStationId(), region);
+            regions.add(region.region());
+        });
+
+        StationMarkerSnapshot built = new StationMarkerSnapshot(
+                version.incrementAndGet(), LocalDateTime.now(),
+                System.currentTimeMillis() - start, markers, addresses, regions);
+        // 삭제된 충전소는 새 map 에 없으므로 함께 정리됨
+        parsedAddresses = parsed;
+        if (snapshot != null) {
+            history.record(snapshot, built);
+        }
+        snapshot = built;
+
+        log.info("[SNAPSHOT] Station marker snapshot rebuilt. version={}, stations={}, elapsed={}ms",
+                built.getVersion(), built.size(), built.getBuildMs());
+        return built;
+    }
+
+    public StationSnapshotInfoDto getInfo() {
+        StationMarkerSnapshot current = current();
+        return new StationSnapshotInfoDto(
+                current.getVersion(), current.getBuiltAt(), current.getBuildMs(), current.size());
+    }
+
+    /**
+     * since 버전 이후 바뀐 충전소 (area 가 null 이면 전체 영역)
+     * - 기록이 since 까지 닿지 않으면 영역 전체를 full 로 반환
+     * - 여러 버전에 걸쳐 바뀐 충전소는 현재 스냅샷 값 1건만
+     */
+    StationChangesDto changesSince(long since, Bbox area) {
+        StationMarkerSnapshot current = current();
+        List<StationChangeHistory.ChangeSet> sets = history.between(since, current.getVersion());
+        if (sets == null) {
+            List<StationMarkerDto> all = area == null
+                    ? current.all()
+                    : current.within(area.minLat(), area.maxLat(), area.minLng(), area.maxLng());
+            return new StationChangesDto(current.getVersion(), true, all, List.of());
+        }
+
+        Set<String> touched = new LinkedHashSet<>();
+        List<StationMarkerDto> removedMarkers = new ArrayList<>();
+        for (StationChangeHistory.ChangeSet set : sets) {
+            touched.addAll(set.changedIds());
+            for (StationMarkerDto removed : set.removed()) {
+                touched.add(removed.getStationId());
+                removedMarkers.add(removed);
+            }
+        }
+
+        List<StationMarkerDto> changed = new ArrayList<>();
+        for (String stationId : touched) {
+            StationMarkerDto marker = current.find(stationId);
+            if (marker != null && (area == null || area.contains(marker.getLat(), marker.getLng()))) {
+                changed.add(marker);
+            }
+        }
+        // 지금도 없는 충전소만 tombstone (중간에 사라졌다 다시 생긴 경우 제외), 위치는 마지막으로 알던 좌표
+        Set<String> removed = new LinkedHashSet<>();
+        for (StationMarkerDto marker : removedMarkers) {
+            if (current.find(marker.getStationId()) == null
+                    && (area == null || area.contains(marker.getLat(), marker.getLng()))) {
+                removed.add(marker.getStationId());
+            }
+        }
+        return new StationChangesDto(current.getVersion(), false, changed, new ArrayList<>(removed));
+    }
+
+    private static String markerColorOf(int availableCount, int totalCount) {
+        if (totalCount > 0 && availableCount == totalCount) {
+            return "GREEN"; // 모두 이용 가능
+        } else if (availableCount > 0) {
+            return "BLUE";  // 1개 이상 이용 가능 (일부 이용 가능)
+        }
+        return "GRAY";      // 이용 불가
+    }
+
+    // 분해에 사용한 원본 주소 + 결과 (시도를 알 수 없으면 region 은 null)
+    private record ParsedAddress(String address, RegionAddress region) {
+    }
+}
@@ -0,0 +1,344 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.ChargerStatusDto;
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+import com.ssafy.wtd.backend.dto.station.StationStatusEventDto;
+import com.ssafy.wtd.backend.model.Charger;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 충전기 상태 실시간 push (SSE, /stations/stream)
+ * - 구독 단위: 지도 영역(bbox) 또는 충전소 id 목록
+ * - 동기화가 끝나면 이번에 바뀐 충전기만 관심 있는 구독자에게 전송 (전체 목록 polling 대체)
+ * - 구독자 검색은 충전소 id → 구독자, 0.1도 격자 → bbox 구독자 색인으로 변경 건수에 비례
+ * - 전송은 작은 고정 스레드 풀에서, 밀린 전송이 많은 느린 구독자는 끊어서 재연결하게 함
+ */
+@Slf4j
+@Service
+public class StationStatusPushService {
+
+    private static final double CELL_DEGREES = 0.1;
+    private static final int MAX_CELLS_PER_SUBSCRIPTION = 400;   // 이보다 넓은 bbox 는 wide 목록에서 scan
+    private static final int MAX_STATION_IDS = 200;
+    private static final int MAX_PENDING_SENDS = 8;
+
+    private final StationSnapshotService stationSnapshotService;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final int maxChangedChargers;
+    private final ExecutorService sendPool;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Subscriber>> byStation = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> byCell = new ConcurrentHashMap<>();
+    private final Set<Subscriber> wide = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public StationStatusPushService(
+            StationSnapshotService stationSnapshotService,
+            @Value("${station.push.max-subscribers:10000}") int maxSubscribers,
+            @Value("${station.push.timeout-ms:1800000}") long timeoutMs,
+            @Value("${station.push.max-changed-chargers:20000}") int maxChangedChargers,
+            @Value("${station.push.send-threads:4}") int sendThreads) {
+        this.stationSnapshotService = stationSnapshotService;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+        this.maxChangedChargers = maxChangedChargers;
+        AtomicInteger seq = new AtomicInteger();
+        this.sendPool = Executors.newFixedThreadPool(Math.max(1, sendThreads), r -> {
+            Thread t = new Thread(r, "station-push-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 구독 등록 (bbox = minLng,minLat,maxLng,maxLat 와 stationIds 중 하나 이상 필요)
+     */
+    public SseEmitter subscribe(String bbox, List<String> stationIds) {
+        Bbox area = bbox == null || bbox.isBlank() ? null : Bbox.parse(bbox);
+        Set<String> ids = new LinkedHashSet<>();
+        if (stationIds != null) {
+            stationIds.stream().filter(id -> id != null && !id.isBlank()).map(String::trim).forEach(ids::add);
+        }
+        if (area == null && ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "bbox 또는 stationIds 가 필요합니다.");
+        }
+        if (ids.size() > MAX_STATION_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "stationIds 는 최대 " + MAX_STATION_IDS + "개까지 구독할 수 있습니다.");
+        }
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 구독자가 너무 많습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(sequence.incrementAndGet(), emitter, area, ids, cellsOf(area));
+        register(subscriber);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+
+        // 첫 이벤트로 기준 스냅샷 버전 전달 (이후 이벤트는 이 버전 이후의 변경분)
+        long version = stationSnapshotService.current().getVersion();
+        send(subscriber, SseEmitter.event()
+                .name("connected")
+                .id(String.valueOf(version))
+                .data(Map.of("version", version)));
+        return emitter;
+    }
+
+    /**
+     * 동기화 1회 분량의 변경 기록 (writer 스레드가 채움)
+     */
+    ChargerChangeLog newChangeLog() {
+        return new ChargerChangeLog(maxChangedChargers);
+    }
+
+    /**
+     * 스냅샷 교체 후 호출: 바뀐 충전기를 충전소별로 묶어 구독자별 이벤트 1건으로 전송
+     * - 변경이 너무 많으면(첫 전체 동기화 등) 개별 전송 대신 reset 이벤트 → 클라이언트가 다시 조회
+     */
+    void publish(ChargerChangeLog changeLog) {
+        if (subscribers.isEmpty() || changeLog.isEmpty()) {
+            return;
+        }
+        StationMarkerSnapshot snapshot = stationSnapshotService.current();
+        String version = String.valueOf(snapshot.getVersion());
+
+        if (changeLog.isOverflowed()) {
+            for (Subscriber subscriber : subscribers) {
+                send(subscriber, SseEmitter.event().name("reset").id(version).data(Map.of("version", snapshot.getVersion())));
+            }
+            return;
+        }
+
+        Map<String, List<Charger>> byStationId = new LinkedHashMap<>();
+        for (Charger charger : changeLog.chargers()) {
+            byStationId.computeIfAbsent(charger.getStationId(), k -> new ArrayList<>()).add(charger);
+        }
+
+        Map<Subscriber, List<StationStatusEventDto>> outbox = new HashMap<>();
+        byStationId.forEach((stationId, chargers) -> {
+            StationMarkerDto marker = snapshot.find(stationId);
+            if (marker == null) {
+                return;
+            }
+            StationStatusEventDto event = toEvent(marker, chargers);
+            for (Subscriber subscriber : interestedIn(marker)) {
+                outbox.computeIfAbsent(subscriber, k -> new ArrayList<>()).add(event);
+            }
+        });
+
+        outbox.forEach((subscriber, events) ->
+                send(subscriber, SseEmitter.event().name("status").id(version).data(events, MediaType.APPLICATION_JSON)));
+        log.debug("[PUSH] version={} stations={} subscribers={}", version, byStationId.size(), outbox.size());
+    }
+
+    /**
+     * 프록시 / 로드밸런서 idle timeout 으로 연결이 끊기지 않도록 주석 이벤트 전송
+     */
+    @Scheduled(fixedDelayString = "${station.push.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            send(subscriber, SseEmitter.event().comment("ping"));
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sendPool.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter().complete();
+        }
+    }
+
+    private Set<Subscriber> interestedIn(StationMarkerDto marker) {
+        Set<Subscriber> result = new LinkedHashSet<>();
+        Set<Subscriber> exact = byStation.get(marker.getStationId());
+        if (exact != null) {
+            result.addAll(exact);
+        }
+        Set<Subscriber> cell = byCell.get(cellKey(cellOf(marker.getLat()), cellOf(marker.getLng())));
+        if (cell != null) {
+            for (Subscriber subscriber : cell) {
+                if (subscriber.area().contains(marker.getLat(), marker.getLng())) {
+                    result.add(subscriber);
+                }
+            }
+        }
+        for (Subscriber subscriber : wide) {
+            if (subscriber.area().contains(marker.getLat(), marker.getLng())) {
+                result.add(subscriber);
+            }
+        }
+        return result;
+    }
+
+    private static StationStatusEventDto toEvent(StationMarkerDto marker, List<Charger> chargers) {
+        // 증분 동기화의 Charger 에는 타입이 없으므로 상태만 전송 (전체 / 증분 동기화 이벤트 형식 통일)
+        List<ChargerStatusDto> changed = new ArrayList<>(chargers.size());
+        for (Charger c : chargers) {
+            changed.add(StationDetailService.toStatusDto(c.getChargerId(), String.valueOf(c.getStatus())));
+        }
+        return new StationStatusEventDto(marker.getStationId(), marker.getAvailableCount(),
+                marker.getTotalCount(), marker.getMarkerColor(), changed);
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.pending().incrementAndGet() > MAX_PENDING_SENDS) {
+            // 네트워크가 느린 구독자 때문에 전송 스레드가 묶이지 않도록 끊음 (클라이언트 EventSource 가 재연결)
+            close(subscriber);
+            return;
+        }
+        try {
+            sendPool.execute(() -> {
+                try {
+                    if (!subscriber.closed().get()) {
+                        subscriber.emitter().send(event);
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    close(subscriber);
+                } finally {
+                    subscriber.pending().decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            subscriber.pending().decrementAndGet();
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        unregister(subscriber);
+        try {
+            subscriber.emitter().complete();
+        } catch (Exception ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    private void register(Subscriber subscriber) {
+        subscribers.add(subscriber);
+        for (String stationId : subscriber.stationIds()) {
+            addTo(byStation, stationId, subscriber);
+        }
+        if (subscriber.area() != null) {
+            if (subscriber.cells() == null) {
+                wide.add(subscriber);
+            } else {
+                for (long cell : subscriber.cells()) {
+                    addTo(byCell, cell, subscriber);
+                }
+            }
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!subscriber.closed().compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.remove(subscriber);
+        wide.remove(subscriber);
+        for (String stationId : subscriber.stationIds()) {
+            removeFrom(byStation, stationId, subscriber);
+        }
+        if (subscriber.cells() != null) {
+            for (long cell : subscriber.cells()) {
+                removeFrom(byCell, cell, subscriber);
+            }
+        }
+    }
+
+    private static <K> void addTo(Map<K, Set<Subscriber>> index, K key, Subscriber subscriber) {
+        index.compute(key, (k, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Subscriber>> index, K key, Subscriber subscriber) {
+        index.computeIfPresent(key, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * bbox 가 걸치는 격자 key 목록 (너무 넓으면 null → wide)
+     */
+    private static long[] cellsOf(Bbox area) {
+        if (area == null) {
+            return new long[0];
+        }
+        long minRow = cellOf(area.minLat()), maxRow = cellOf(area.maxLat());
+        long minCol = cellOf(area.minLng()), maxCol = cellOf(area.maxLng());
+        long count = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (maxRow < minRow || maxCol < minCol || count > MAX_CELLS_PER_SUBSCRIPTION) {
+            return null;
+        }
+        long[] cells = new long[(int) count];
+        int i = 0;
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                cells[i++] = cellKey(row, col);
+            }
+        }
+        return cells;
+    }
+
+    private static long cellOf(double degrees) {
+        return (long) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(long row, long col) {
+        return (row << 32) | (col & 0xffffffffL);
+    }
+
+    private record Subscriber(long id, SseEmitter emitter, Bbox area, Set<String> stationIds, long[] cells,
+                              AtomicInteger pending, AtomicBoolean closed) {
+
+        Subscriber(long id, SseEmitter emitter, Bbox area, Set<String> stationIds, long[] cells) {
+            this(id, emitter, area, stationIds, cells, new AtomicInteger(), new AtomicBoolean());
+        }
+
+        // 색인(Set) 의 key 로 쓰이므로 구독 id 로만 비교
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Subscriber other && other.id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(id);
+        }
+    }
+}
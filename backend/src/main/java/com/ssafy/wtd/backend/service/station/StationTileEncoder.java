@@ -0,0 +1,156 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 충전소 마커 → Mapbox Vector Tile (MVT 2.1) 인코딩
+ * - layer "stations" 1개, 충전소 1개 = POINT feature 1개
+ * - 속성: stationId, stationName, availableCount, totalCount, markerColor
+ * - 외부 protobuf 라이브러리 없이 필요한 필드만 직접 인코딩
+ */
+final class StationTileEncoder {
+
+    static final String LAYER_NAME = "stations";
+    static final int EXTENT = 4096;
+
+    private static final String[] KEYS = {"stationId", "stationName", "availableCount", "totalCount", "markerColor"};
+
+    // protobuf wire type
+    private static final int VARINT = 0;
+    private static final int LENGTH_DELIMITED = 2;
+
+    // MVT geometry: MoveTo 1회
+    private static final int MOVE_TO_ONCE = (1 & 0x7) | (1 << 3);
+    private static final int GEOM_POINT = 1;
+
+    private StationTileEncoder() {
+    }
+
+    /**
+     * @param markers 타일 범위 안의 충전소
+     * @param z, x, y 타일 좌표 (XYZ, 북서쪽이 0,0)
+     */
+    static byte[] encode(List<StationMarkerDto> markers, int z, int x, int y) {
+        double scale = 1L << z;
+
+        // value 는 layer 단위로 중복 제거 (markerColor, 충전기 수는 값 종류가 적음)
+        Map<Object, Integer> valueIndex = new HashMap<>();
+        ProtoWriter values = new ProtoWriter();
+        ProtoWriter features = new ProtoWriter();
+
+        for (StationMarkerDto marker : markers) {
+            int px = (int) Math.round((WebMercator.x(marker.getLng()) * scale - x) * EXTENT);
+            int py = (int) Math.round((WebMercator.y(marker.getLat()) * scale - y) * EXTENT);
+
+            int[] tags = {
+                    0, valueOf(marker.getStationId(), valueIndex, values),
+                    1, valueOf(marker.getStationName(), valueIndex, values),
+                    2, valueOf((long) marker.getAvailableCount(), valueIndex, values),
+                    3, valueOf((long) marker.getTotalCount(), valueIndex, values),
+                    4, valueOf(marker.getMarkerColor(), valueIndex, values)
+            };
+
+            ProtoWriter feature = new ProtoWriter();
+            feature.packed(2, tags);
+            feature.varintField(3, GEOM_POINT);
+            feature.packed(4, new int[]{MOVE_TO_ONCE, zigzag(px), zigzag(py)});
+            features.message(2, feature);
+        }
+
+        ProtoWriter layer = new ProtoWriter();
+        layer.varintField(15, 2);
+        layer.string(1, LAYER_NAME);
+        layer.raw(features);
+        for (String key : KEYS) {
+            layer.string(3, key);
+        }
+        layer.raw(values);
+        layer.varintField(5, EXTENT);
+
+        ProtoWriter tile = new ProtoWriter();
+        tile.message(3, layer);
+        return tile.toByteArray();
+    }
+
+    private static int valueOf(Object value, Map<Object, Integer> valueIndex, ProtoWriter values) {
+        Object key = value == null ? "" : value;
+        Integer index = valueIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        ProtoWriter encoded = new ProtoWriter();
+        if (key instanceof Long number) {
+            encoded.varintField(5, number);     // uint_value
+        } else {
+            encoded.string(1, (String) key);    // string_value
+        }
+        values.message(4, encoded);
+        valueIndex.put(key, valueIndex.size());
+        return valueIndex.size() - 1;
+    }
+
+    private static int zigzag(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    /**
+     * 최소한의 protobuf writer
+     */
+    private static final class ProtoWriter {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void varintField(int field, long value) {
+            tag(field, VARINT);
+            varint(value);
+        }
+
+        void string(int field, String value) {
+            bytes(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void message(int field, ProtoWriter message) {
+            bytes(field, message.toByteArray());
+        }
+
+        void packed(int field, int[] values) {
+            ProtoWriter body = new ProtoWriter();
+            for (int value : values) {
+                body.varint(value & 0xFFFFFFFFL);
+            }
+            message(field, body);
+        }
+
+        void raw(ProtoWriter other) {
+            out.writeBytes(other.toByteArray());
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private void bytes(int field, byte[] value) {
+            tag(field, LENGTH_DELIMITED);
+            varint(value.length);
+            out.writeBytes(value);
+        }
+
+        private void tag(int field, int wireType) {
+            varint(((long) field << 3) | wireType);
+        }
+
+        private void varint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ssafy.wtd.backend.service.station;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 충전소 마커 벡터 타일 (/stations/tiles/{z}/{x}/{y})
+ * - 요청된 타일만 스냅샷에서 잘라 MVT 로 인코딩 (lazy)
+ * - 인코딩 결과는 LRU 로 보관, 스냅샷 버전이 바뀌면 비움
+ * - ETag 는 스냅샷 버전 + 타일 좌표 → 동기화 전까지 브라우저 / CDN 이 304 로 재검증
+ */
+@Service
+@RequiredArgsConstructor
+public class StationTileService {
+
+    public static final String CONTENT_TYPE = "application/vnd.mapbox-vector-tile";
+
+    private static final int MAX_ZOOM = 22;
+
+    private final StationSnapshotService stationSnapshotService;
+
+    @Value("${station.tile.cache-size:4096}")
+    private int cacheSize;
+
+    private long cachedVersion;
+    private final Map<TileKey, byte[]> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TileKey, byte[]> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    /**
+     * 타일 1개 (ETag 와 함께)
+     */
+    public StationTile getTile(int z, int x, int y) {
+        checkTile(z, x, y);
+
+        StationMarkerSnapshot snapshot = stationSnapshotService.current();
+        TileKey key = new TileKey(snapshot.getVersion(), z, x, y);
+
+        byte[] data = cached(key);
+        if (data == null) {
+            data = render(snapshot, z, x, y);
+            store(key, data);
+        }
+        return new StationTile(etag(key), data);
+    }
+
+    /**
+     * 본문 없이 ETag 만 필요할 때 (If-None-Match 비교용)
+     */
+    public String currentEtag(int z, int x, int y) {
+        checkTile(z, x, y);
+        return etag(new TileKey(stationSnapshotService.current().getVersion(), z, x, y));
+    }
+
+    /**
+     * 범위 밖 타일은 ETag 비교 전에 400 (If-None-Match 가 맞아도 304 로 응답하지 않도록)
+     */
+    private static void checkTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "타일 좌표가 올바르지 않습니다.");
+        }
+    }
+
+    private byte[] render(StationMarkerSnapshot snapshot, int z, int x, int y) {
+        double n = 1L << z;
+        double minLng = WebMercator.lng(x / n);
+        double maxLng = WebMercator.lng((x + 1) / n);
+        double maxLat = WebMercator.lat(y / n);
+        double minLat = WebMercator.lat((y + 1) / n);
+        return StationTileEncoder.encode(snapshot.within(minLat, maxLat, minLng, maxLng), z, x, y);
+    }
+
+    private synchronized byte[] cached(TileKey key) {
+        return cache.get(key);
+    }
+
+    private synchronized void store(TileKey key, byte[] data) {
+        if (key.version() < cachedVersion) {
+            return;
+        }
+        if (key.version() > cachedVersion) {
+            cache.clear();
+            cachedVersion = key.version();
+        }
+        cache.put(key, data);
+    }
+
+    private static String etag(TileKey key) {
+        return "\"v" + key.version() + "-" + key.z() + "-" + key.x() + "-" + key.y() + "\"";
+    }
+
+    private record TileKey(long version, int z, int x, int y) {
+    }
+
+    public record StationTile(String etag, byte[] data) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.ssafy.wtd.backend.service.station;
+
+/**
+ * 지역별 동기화 방식
+ */
+public enum SyncMode {
+
+    FULL,        // getChargerInfo 전체 페이지 조회 (충전소/충전기 정보 포함)
+    INCREMENTAL  // getChargerStatus 로 high-water mark 이후 상태 변경분만 조회
+}
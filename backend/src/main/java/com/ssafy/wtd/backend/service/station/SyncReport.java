@@ -0,0 +1,180 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.model.SidoCode;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동기화 1회 실행에 대한 진행 상황 / 처리량 지표
+ * - fetch / writer 스레드가 동시에 갱신하므로 카운터는 모두 Atomic 으로 관리
+ */
+public class SyncReport {
+
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+
+    private final long startNanos = System.nanoTime();
+    private volatile long finishNanos;
+
+    private final Map<String, RegionProgress> regionMap;
+
+    // 전체 동기화 후 사라진 충전기 정리 결과
+    private volatile boolean reconciled;
+    private volatile int deletedChargers;
+
+    public SyncReport(List<String> zcodes) {
+        Map<String, RegionProgress> map = new LinkedHashMap<>();
+        for (String zcode : zcodes) {
+            map.put(zcode, new RegionProgress(zcode));
+        }
+        this.regionMap = Collections.unmodifiableMap(map);
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    RegionProgress region(String zcode) {
+        return regionMap.get(zcode);
+    }
+
+    public Collection<RegionProgress> getRegions() {
+        return regionMap.values();
+    }
+
+    void reconciled(int deletedChargers) {
+        this.reconciled = true;
+        this.deletedChargers = deletedChargers;
+    }
+
+    public boolean isReconciled() {
+        return reconciled;
+    }
+
+    public int getDeletedChargers() {
+        return deletedChargers;
+    }
+
+    void finish() {
+        this.finishNanos = System.nanoTime();
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public long getElapsedMs() {
+        long end = finishNanos != 0 ? finishNanos : System.nanoTime();
+        return (end - startNanos) / 1_000_000;
+    }
+
+    public long getFetchedItems() {
+        return regionMap.values().stream().mapToLong(RegionProgress::getFetchedItems).sum();
+    }
+
+    public long getWrittenItems() {
+        return regionMap.values().stream().mapToLong(RegionProgress::getWrittenItems).sum();
+    }
+
+    public long getSkippedItems() {
+        return regionMap.values().stream().mapToLong(RegionProgress::getSkippedItems).sum();
+    }
+
+    public long getWrittenStations() {
+        return regionMap.values().stream().mapToLong(RegionProgress::getWrittenStations).sum();
+    }
+
+    public int getFailedPages() {
+        return regionMap.values().stream().mapToInt(RegionProgress::getFailedPages).sum();
+    }
+
+    /**
+     * 변경 감지까지 마친 건수 기준 초당 처리량
+     */
+    public double getItemsPerSecond() {
+        long elapsedMs = Math.max(getElapsedMs(), 1);
+        return (getWrittenItems() + getSkippedItems()) * 1000.0 / elapsedMs;
+    }
+
+    // =========================
+    // 지역(zcode)별 진행 상황
+    // =========================
+    public static class RegionProgress {
+
+        private final String zcode;
+        private final String regionName;
+        private volatile SyncMode mode = SyncMode.FULL;
+
+        private final AtomicLong totalCount = new AtomicLong();
+        private final AtomicInteger totalPages = new AtomicInteger();
+        private final AtomicInteger fetchedPages = new AtomicInteger();
+        private final AtomicInteger failedPages = new AtomicInteger();     // 조회 또는 저장 실패
+        private final AtomicLong fetchedItems = new AtomicLong();
+        private final AtomicLong writtenItems = new AtomicLong();   // 변경되어 저장된 건수 (delta)
+        private final AtomicLong skippedItems = new AtomicLong();   // 변경 없음으로 건너뛴 건수
+        private final AtomicLong writtenStations = new AtomicLong(); // 저장된 충전소 수 (이름 / 주소 / 좌표 변경 포함)
+
+        private RegionProgress(String zcode) {
+            SidoCode sido = SidoCode.from(zcode);
+            this.zcode = zcode;
+            this.regionName = sido != null ? sido.getSidoName() : zcode;
+        }
+
+        void mode(SyncMode mode) {
+            this.mode = mode;
+        }
+
+        void planned(long totalCount, int totalPages) {
+            this.totalCount.set(totalCount);
+            this.totalPages.set(totalPages);
+        }
+
+        void pageFetched() {
+            fetchedPages.incrementAndGet();
+        }
+
+        void itemsFetched(int items) {
+            fetchedItems.addAndGet(items);
+        }
+
+        void pageFailed() {
+            failedPages.incrementAndGet();
+        }
+
+        void written(int items) {
+            writtenItems.addAndGet(items);
+        }
+
+        void skipped(int items) {
+            skippedItems.addAndGet(items);
+        }
+
+        void stationsWritten(int stations) {
+            writtenStations.addAndGet(stations);
+        }
+
+        public String getZcode() { return zcode; }
+        public String getRegionName() { return regionName; }
+        public SyncMode getMode() { return mode; }
+        public long getTotalCount() { return totalCount.get(); }
+        public int getTotalPages() { return totalPages.get(); }
+        public int getFetchedPages() { return fetchedPages.get(); }
+        public int getFailedPages() { return failedPages.get(); }
+        public long getFetchedItems() { return fetchedItems.get(); }
+        public long getWrittenItems() { return writtenItems.get(); }
+        public long getSkippedItems() { return skippedItems.get(); }
+        public long getWrittenStations() { return writtenStations.get(); }
+    }
+}
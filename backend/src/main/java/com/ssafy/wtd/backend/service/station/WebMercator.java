@@ -0,0 +1,39 @@
+package com.ssafy.wtd.backend.service.station;
+
+/**
+ * Web Mercator (EPSG:3857) 정규화 좌표 변환
+ * - x, y 는 [0, 1) 범위 (x: 서 → 동, y: 북 → 남), zoom z 의 타일 좌표 = x * 2^z
+ */
+final class WebMercator {
+
+    static final double MAX_LAT = 85.05112878;
+
+    private WebMercator() {
+    }
+
+    static double x(double lng) {
+        return (lng + 180.0) / 360.0;
+    }
+
+    static double y(double lat) {
+        double rad = Math.toRadians(Math.max(-MAX_LAT, Math.min(MAX_LAT, lat)));
+        return (1 - Math.log(Math.tan(rad) + 1 / Math.cos(rad)) / Math.PI) / 2;
+    }
+
+    static double lng(double x) {
+        return x * 360.0 - 180.0;
+    }
+
+    static double lat(double y) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+    }
+
+    /**
+     * 정규화 좌표 → 2^bits 격자 좌표 (범위 밖은 가장자리로)
+     */
+    static int cell(double normalized, int bits) {
+        int size = 1 << bits;
+        int value = (int) Math.floor(normalized * size);
+        return value < 0 ? 0 : Math.min(value, size - 1);
+    }
+}
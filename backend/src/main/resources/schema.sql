@@ -56,6 +56,8 @@ CREATE TABLE charger (
 
     status INT NOT NULL,                    -- 0=정상, 1=고장, 2=점검, 3=사용중
 
+    INDEX idx_charger_station (station_id), -- 충전소별 충전기 조회 / 집계
+
     FOREIGN KEY (station_id) REFERENCES charging_station(station_id)
 ) COMMENT '충전소에 설치된 개별 충전기 정보 및 상태';
 
@@ -138,20 +140,33 @@ CREATE TABLE carbon_config (
 ) COMMENT '탄소 절감량 계산에 사용되는 기준값';
 
 -- 2.10.  Refresh Token 저장 테이블
+-- 기존 DB 의 token(원문) 컬럼 구조는 기동 시 RefreshTokenSchemaMigration 이 token_hash 구조로 변환
 CREATE TABLE IF NOT EXISTS refresh_token (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,     -- Refresh Token 고유 ID
 
     user_id BIGINT NOT NULL,                  -- 사용자 ID (FK)
-    token TEXT NOT NULL,              -- Refresh Token 값
+    token_hash CHAR(43) NOT NULL,             -- Refresh Token SHA-256 (base64url), 원문은 저장하지 않음
     expires_at DATETIME NOT NULL,             -- 만료 시각
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP, -- 생성 시각
 
+    UNIQUE KEY uk_refresh_token_hash (token_hash),
+    INDEX idx_refresh_token_expires (expires_at), -- 만료 토큰 일괄 삭제용
+
     CONSTRAINT fk_refresh_token_user
         FOREIGN KEY (user_id)
         REFERENCES user(user_id)
         ON DELETE CASCADE                      -- 사용자 삭제 시 토큰도 삭제
 );
 
+-- 2.11. 충전기 증분 동기화 기준 테이블
+-- 역할: 시도(zcode)별 상태 변경 high-water mark 및 전체 동기화 시각 보관
+CREATE TABLE IF NOT EXISTS sync_watermark (
+    zcode VARCHAR(2) PRIMARY KEY COMMENT '시도 코드',
+    last_stat_upd_dt DATETIME COMMENT '이 시각(KST)까지의 충전기 상태 변경이 반영됨',
+    last_full_sync_at DATETIME COMMENT '마지막 전체 동기화 시각 (KST)',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) COMMENT '지역별 충전기 증분 동기화 기준';
+
 -- 3.1. 기본 관리자 계정 삽입 (carbon_config의 updated_by를 위한 선행 작업)
 INSERT INTO user (
     user_id, email, password, name, role, status, created_at, updated_at
@@ -0,0 +1,56 @@
+package com.ssafy.wtd.backend.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiRateLimiterTest {
+
+    @Test
+    void allowsBurstThenRejectsWithoutWaiting() {
+        ApiRateLimiter limiter = new ApiRateLimiter(1, 3);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void acquireWaitsForNextToken() throws InterruptedException {
+        // 초당 10개 → 빈 bucket 에서 다음 token 까지 약 100ms
+        ApiRateLimiter limiter = new ApiRateLimiter(10, 1);
+        assertThat(limiter.acquire(0)).isEqualTo(0);
+
+        long start = System.nanoTime();
+        long waitedMs = limiter.acquire(1000);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(waitedMs).isBetween(50L, 100L);
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(waitedMs);
+    }
+
+    @Test
+    void acquireTimesOutWithoutConsumingToken() throws InterruptedException {
+        ApiRateLimiter limiter = new ApiRateLimiter(1, 1);
+        assertThat(limiter.acquire(0)).isEqualTo(0);
+
+        long start = System.nanoTime();
+        assertThat(limiter.acquire(50)).isEqualTo(-1);
+        // 기다리지 않고 바로 거절
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(50);
+
+        assertThat(limiter.acquire(50)).isEqualTo(-1);
+
+        // 거절된 요청은 token 을 차감하지 않으므로 다음 token 은 여전히 1초 이내
+        assertThat(limiter.acquire(1100)).isBetween(0L, 1000L);
+    }
+
+    @Test
+    void refillsUpToBurstOnly() throws InterruptedException {
+        ApiRateLimiter limiter = new ApiRateLimiter(100, 2);
+        Thread.sleep(100);
+
+        assertThat(limiter.getAvailableTokens()).isEqualTo(2.0);
+    }
+}
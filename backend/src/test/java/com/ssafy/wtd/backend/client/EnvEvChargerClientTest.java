@@ -0,0 +1,337 @@
+package com.ssafy.wtd.backend.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.wtd.backend.dto.external.EnvEvChargerItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class EnvEvChargerClientTest {
+
+    private static final String SAMPLE_PAGE = """
+            {
+              "resultMsg": "NORMAL SERVICE.",
+              "totalCount": 3,
+              "items": {
+                "item": [
+                  {"statId": "ME000001", "statNm": "강남구청", "chgerId": "01", "stat": "2", "chgerType": "04",
+                   "addr": "서울특별시 강남구 학동로 426", "lat": "37.5172", "lng": "127.0473",
+                   "statUpdDt": "20260101120000", "powerType": "급속(100kW멀티)"},
+                  {"statId": "ME000001", "statNm": "강남구청", "chgerId": "02", "stat": "3", "chgerType": "02"},
+                  {"statId": "ME000002", "statNm": "역삼동", "chgerId": "01", "stat": "5", "chgerType": "07"}
+                ]
+              },
+              "pageNo": 1,
+              "resultCode": "00",
+              "numOfRows": 10
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EnvEvChargerClient client = new EnvEvChargerClient(null, objectMapper, null, null);
+
+    @Test
+    void readsItemsInChunks() throws IOException {
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+
+        int totalCount = read(SAMPLE_PAGE, 2, chunks);
+
+        assertThat(totalCount).isEqualTo(3);
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).hasSize(2);
+        assertThat(chunks.get(1)).hasSize(1);
+
+        EnvEvChargerItem first = chunks.get(0).get(0);
+        assertThat(first.getStatId()).isEqualTo("ME000001");
+        assertThat(first.getChgerId()).isEqualTo("01");
+        assertThat(first.getStat()).isEqualTo("2");
+        assertThat(first.getLat()).isEqualTo("37.5172");
+        assertThat(first.getPowerType()).isEqualTo("급속(100kW멀티)");
+        assertThat(chunks.get(1).get(0).getStatNm()).isEqualTo("역삼동");
+    }
+
+    @Test
+    void readsTotalCountAfterItems() throws IOException {
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+
+        int totalCount = read("""
+                {"items": {"item": [{"statId": "A", "chgerId": "01"}]}, "totalCount": 41}
+                """, 10, chunks);
+
+        assertThat(totalCount).isEqualTo(41);
+        assertThat(chunks).hasSize(1);
+    }
+
+    @Test
+    void missingItemsYieldsNoChunks() throws IOException {
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+
+        int totalCount = read("""
+                {"resultMsg": "NORMAL SERVICE.", "totalCount": 0, "pageNo": 1}
+                """, 10, chunks);
+
+        assertThat(totalCount).isEqualTo(0);
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    void emptyOrNullItemsYieldNoChunks() throws IOException {
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+
+        read("{\"totalCount\": 0, \"items\": {\"item\": []}}", 10, chunks);
+        read("{\"totalCount\": 0, \"items\": {\"item\": null}}", 10, chunks);
+        read("{\"totalCount\": 0, \"items\": \"\"}", 10, chunks);
+
+        assertThat(chunks).isEmpty();
+    }
+
+    @Test
+    void readsSingleItemWithoutArray() throws IOException {
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+
+        int totalCount = read("""
+                {"totalCount": 1, "items": {"item": {"statId": "ME000009", "chgerId": "03", "stat": "2"}}}
+                """, 10, chunks);
+
+        assertThat(totalCount).isEqualTo(1);
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).get(0).getStatId()).isEqualTo("ME000009");
+        assertThat(chunks.get(0).get(0).getChgerId()).isEqualTo("03");
+    }
+
+    @Test
+    void skipsUnknownFields() throws IOException {
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+
+        int totalCount = read("""
+                {
+                  "header": {"resultCode": "00", "nested": {"items": {"item": [{"statId": "X"}]}}},
+                  "extra": [1, [2, 3], {"item": []}],
+                  "items": {
+                    "meta": {"item": [{"statId": "Y"}]},
+                    "item": [{"statId": "A", "chgerId": "01", "kind": "01", "kindDetail": {"a": [1]}, "delYn": "N"}]
+                  },
+                  "totalCount": 1
+                }
+                """, 10, chunks);
+
+        assertThat(totalCount).isEqualTo(1);
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0)).hasSize(1);
+        assertThat(chunks.get(0).get(0).getStatId()).isEqualTo("A");
+    }
+
+    @Test
+    void nonObjectBodyYieldsNothing() throws IOException {
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+
+        assertThat(read("[]", 10, chunks)).isEqualTo(0);
+        assertThat(read("", 10, chunks)).isEqualTo(0);
+        assertThat(chunks).isEmpty();
+    }
+
+    // =========================
+    // 재시도 / rate limit (stub 서버)
+    // =========================
+
+    @Test
+    void retriesOn429And5xxThenSucceeds() {
+        Stub stub = new Stub(3);
+        stub.server.expect(once(), method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS));
+        stub.server.expect(once(), queryParam("pageNo", "1"))
+                .andRespond(withServerError());
+        stub.server.expect(once(), queryParam("pageNo", "1"))
+                .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+        stub.server.expect(once(), queryParam("pageNo", "1"))
+                .andRespond(withSuccess(SAMPLE_PAGE, MediaType.APPLICATION_JSON));
+
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+        int totalCount = stub.client.fetch(1, 10, "11", 10, chunks::add);
+
+        stub.server.verify();
+        assertThat(totalCount).isEqualTo(3);
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0)).hasSize(3);
+        assertThat(stub.metrics.getRetries()).isEqualTo(3);
+        assertThat(stub.metrics.getFailuresByStatus()).containsEntry(429, 1L).containsEntry(500, 1L).containsEntry(502, 1L);
+        assertThat(stub.metrics.getSuccesses()).isEqualTo(1);
+    }
+
+    @Test
+    void givesUpAfterRetryLimit() {
+        Stub stub = new Stub(2);
+        stub.server.expect(times(3), method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        assertThatThrownBy(() -> stub.client.fetch(1, 10, "11", 10, chunk -> { }))
+                .isInstanceOf(HttpServerErrorException.ServiceUnavailable.class);
+
+        stub.server.verify();
+        assertThat(stub.metrics.getRetries()).isEqualTo(2);
+        assertThat(stub.metrics.getFailures()).isEqualTo(3);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        Stub stub = new Stub(3);
+        stub.server.expect(once(), method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+        assertThatThrownBy(() -> stub.client.fetch(1, 10, "11", 10, chunk -> { }))
+                .isInstanceOf(HttpClientErrorException.BadRequest.class);
+
+        stub.server.verify();
+        assertThat(stub.metrics.getRetries()).isEqualTo(0);
+    }
+
+    @Test
+    void honoursRetryAfter() {
+        // backoff-base 0 → Retry-After 가 없으면 바로 재시도, 있으면 backoff-max(300ms) 까지 대기
+        Stub stub = new Stub(1);
+        ReflectionTestUtils.setField(stub.client, "backoffMaxMs", 300L);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        stub.server.expect(once(), method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).headers(headers));
+        stub.server.expect(once(), method(HttpMethod.GET))
+                .andRespond(withSuccess(SAMPLE_PAGE, MediaType.APPLICATION_JSON));
+
+        long start = System.nanoTime();
+        int totalCount = stub.client.fetch(1, 10, "11", 10, chunk -> { });
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        stub.server.verify();
+        assertThat(totalCount).isEqualTo(3);
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(290);
+    }
+
+    @Test
+    void doesNotRetryAfterItemsWereEmitted() {
+        Stub stub = new Stub(3);
+        // 첫 item 을 넘긴 뒤 연결이 끊기는 응답
+        stub.server.expect(once(), method(HttpMethod.GET))
+                .andRespond(brokenBody("""
+                        {"totalCount": 3, "items": {"item": [{"statId": "A", "chgerId": "01"}, {"statId": "B",                         """));
+
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+        assertThatThrownBy(() -> stub.client.fetch(1, 10, "11", 1, chunks::add))
+                .isInstanceOf(ResourceAccessException.class);
+
+        stub.server.verify();
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).get(0).getStatId()).isEqualTo("A");
+        assertThat(stub.metrics.getRetries()).isEqualTo(0);
+    }
+
+    @Test
+    void retriesBrokenBodyBeforeAnyItem() {
+        Stub stub = new Stub(3);
+        stub.server.expect(once(), method(HttpMethod.GET))
+                .andRespond(brokenBody("{\"totalCount\": 3, \"items\": {\"item\": ["));
+        stub.server.expect(once(), method(HttpMethod.GET))
+                .andRespond(withSuccess(SAMPLE_PAGE, MediaType.APPLICATION_JSON));
+
+        List<List<EnvEvChargerItem>> chunks = new ArrayList<>();
+        int totalCount = stub.client.fetch(1, 10, "11", 10, chunks::add);
+
+        stub.server.verify();
+        assertThat(totalCount).isEqualTo(3);
+        assertThat(chunks).hasSize(1);
+        assertThat(stub.metrics.getRetries()).isEqualTo(1);
+    }
+
+    @Test
+    void failsWithoutCallingApiWhenNoPermitWithinTimeout() {
+        Stub stub = new Stub(3, new ApiRateLimiter(1, 1));
+        ReflectionTestUtils.setField(stub.client, "acquireTimeoutMs", 50L);
+        stub.server.expect(once(), method(HttpMethod.GET))
+                .andRespond(withSuccess(SAMPLE_PAGE, MediaType.APPLICATION_JSON));
+
+        stub.client.fetch(1, 10, "11", 10, chunk -> { });
+        // bucket 이 비었고 다음 token 까지 약 1초 → 50ms 안에 얻지 못함
+        assertThatThrownBy(() -> stub.client.fetch(2, 10, "11", 10, chunk -> { }))
+                .isInstanceOf(IllegalStateException.class);
+
+        stub.server.verify();
+        assertThat(stub.metrics.getRejected()).isEqualTo(1);
+    }
+
+    /**
+     * prefix 를 보낸 뒤 IOException 을 던지는 응답 본문
+     */
+    private static ResponseCreator brokenBody(String prefix) {
+        return request -> {
+            InputStream failing = new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("connection reset");
+                }
+            };
+            InputStream body = new SequenceInputStream(
+                    new ByteArrayInputStream(prefix.getBytes(StandardCharsets.UTF_8)), failing);
+            MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return response;
+        };
+    }
+
+    /**
+     * MockRestServiceServer 에 연결된 client (backoff 0, rate limit 사실상 없음)
+     */
+    private static final class Stub {
+
+        final RestTemplate restTemplate = new RestTemplate();
+        final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        final ApiCallMetrics metrics = new ApiCallMetrics();
+        final EnvEvChargerClient client;
+
+        Stub(int maxRetries) {
+            this(maxRetries, new ApiRateLimiter(1000, 1000));
+        }
+
+        Stub(int maxRetries, ApiRateLimiter rateLimiter) {
+            client = new EnvEvChargerClient(restTemplate, new ObjectMapper(), rateLimiter, metrics);
+            ReflectionTestUtils.setField(client, "serviceKey", "test-key");
+            ReflectionTestUtils.setField(client, "maxRetries", maxRetries);
+            ReflectionTestUtils.setField(client, "backoffBaseMs", 0L);
+            ReflectionTestUtils.setField(client, "backoffMaxMs", 0L);
+            ReflectionTestUtils.setField(client, "acquireTimeoutMs", 1000L);
+        }
+    }
+
+    private int read(String json, int chunkSize, List<List<EnvEvChargerItem>> chunks) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return client.readPage(parser, chunkSize, chunks::add);
+        }
+    }
+}
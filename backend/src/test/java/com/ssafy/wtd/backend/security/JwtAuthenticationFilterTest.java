@@ -0,0 +1,106 @@
+package com.ssafy.wtd.backend.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static com.ssafy.wtd.backend.security.JwtUtilTest.user;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil(JwtUtilTest.SECRET, 60_000, 120_000, 100);
+
+    private UserDetailsService userDetailsService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = mock(UserDetailsService.class);
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesMatchingUser() throws Exception {
+        String token = jwtUtil.generateAccessToken(user(1L, "a@test.com"));
+        when(userDetailsService.loadUserByUsername("a@test.com")).thenReturn(user(1L, "a@test.com"));
+
+        MockFilterChain chain = doFilter(token);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getUserId()).isEqualTo(1L);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void leavesRequestUnauthenticatedWhenUidDoesNotMatch() throws Exception {
+        // 같은 이메일로 재가입해 userId 가 바뀐 경우 이전 토큰은 인증하지 않음
+        String token = jwtUtil.generateAccessToken(user(1L, "a@test.com"));
+        when(userDetailsService.loadUserByUsername("a@test.com")).thenReturn(user(2L, "a@test.com"));
+
+        MockFilterChain chain = doFilter(token);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void rejectsDisabledUserWithoutCallingChain() throws Exception {
+        String token = jwtUtil.generateAccessToken(user(1L, "a@test.com"));
+        when(userDetailsService.loadUserByUsername("a@test.com")).thenReturn(user(1L, "a@test.com", "DISABLED"));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(token), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void leavesRequestUnauthenticatedForInvalidToken() throws Exception {
+        MockFilterChain chain = doFilter("not-a-jwt");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void leavesRequestUnauthenticatedForDeletedUser() throws Exception {
+        String token = jwtUtil.generateAccessToken(user(1L, "a@test.com"));
+        when(userDetailsService.loadUserByUsername("a@test.com")).thenThrow(new UsernameNotFoundException("a@test.com"));
+
+        MockFilterChain chain = doFilter(token);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private MockFilterChain doFilter(String token) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(token), new MockHttpServletResponse(), chain);
+        return chain;
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/charge-records/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
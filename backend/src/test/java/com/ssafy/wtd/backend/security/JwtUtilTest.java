@@ -0,0 +1,97 @@
+package com.ssafy.wtd.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.ssafy.wtd.backend.model.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    static final String SECRET = "test-secret-key-for-jwt-util-at-least-32-bytes";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 120_000, 100);
+
+    @Test
+    void verifiesClaimsAndReturnsCachedResult() {
+        String token = jwtUtil.generateAccessToken(user(7L, "a@test.com"));
+
+        VerifiedToken first = jwtUtil.verify(token);
+        VerifiedToken second = jwtUtil.verify(token);
+
+        assertThat(first).isNotNull();
+        assertThat(first.email()).isEqualTo("a@test.com");
+        assertThat(first.userId()).isEqualTo(7L);
+        assertThat(first.role()).isEqualTo("USER");
+        // 두 번째 호출은 다시 파싱하지 않고 캐시된 객체를 그대로 반환
+        assertThat(second).isSameAs(first);
+        assertThat(cache().getIfPresent(TokenHashes.sha256(token))).isSameAs(first);
+    }
+
+    @Test
+    void neverReturnsCachedTokenPastExpiry() throws InterruptedException {
+        // exp 는 초 단위로 잘리므로 2초로 발급하면 최소 1초는 유효
+        JwtUtil shortLived = new JwtUtil(SECRET, 2_000, 120_000, 100);
+        String token = shortLived.generateAccessToken(user(7L, "a@test.com"));
+        VerifiedToken verified = shortLived.verify(token);
+        assertThat(verified).isNotNull();
+        assertThat(shortLived.verify(token)).isSameAs(verified);
+
+        Thread.sleep(Math.max(0, verified.expiresAtMillis() - System.currentTimeMillis()) + 50);
+
+        assertThat(shortLived.verify(token)).isNull();
+        assertThat(shortLived.isTokenValid(token, user(7L, "a@test.com"))).isFalse();
+    }
+
+    @Test
+    void doesNotCacheTokenWithInvalidSignature() {
+        String forged = Jwts.builder()
+                .subject("a@test.com")
+                .claim("uid", 7L)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-for-forged-tokens-32-bytes".getBytes()))
+                .compact();
+
+        assertThat(jwtUtil.verify(forged)).isNull();
+        assertThat(jwtUtil.verify(forged)).isNull();
+        assertThat(cache().getIfPresent(TokenHashes.sha256(forged))).isNull();
+        assertThat(cache().estimatedSize()).isZero();
+    }
+
+    @Test
+    void doesNotCacheTamperedOrMalformedToken() {
+        String token = jwtUtil.generateAccessToken(user(7L, "a@test.com"));
+        String[] parts = token.split("\\.");
+        String otherPayload = jwtUtil.generateAccessToken(user(8L, "b@test.com")).split("\\.")[1];
+        String tampered = parts[0] + "." + otherPayload + "." + parts[2];
+
+        assertThat(jwtUtil.verify(tampered)).isNull();
+        assertThat(jwtUtil.verify("not-a-jwt")).isNull();
+        assertThat(cache().estimatedSize()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<String, VerifiedToken> cache() {
+        return (Cache<String, VerifiedToken>) ReflectionTestUtils.getField(jwtUtil, "verifiedTokens");
+    }
+
+    static CustomUserDetails user(Long userId, String email) {
+        return user(userId, email, "ACTIVE");
+    }
+
+    static CustomUserDetails user(Long userId, String email, String status) {
+        return new CustomUserDetails(User.builder()
+                .userId(userId)
+                .email(email)
+                .password("pw")
+                .name("user")
+                .role("USER")
+                .status(status)
+                .build());
+    }
+}
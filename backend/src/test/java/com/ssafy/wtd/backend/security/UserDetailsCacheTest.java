@@ -0,0 +1,76 @@
+package com.ssafy.wtd.backend.security;
+
+import com.ssafy.wtd.backend.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserDetailsCacheTest {
+
+    private final UserDetailsCache cache = new UserDetailsCache(60, 100);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictsImmediatelyOutsideTransaction() {
+        cache.get("a@test.com", email -> user(1L, email, "ACTIVE"));
+
+        cache.evictByUserId(1L);
+
+        assertThat(cache.get("a@test.com", email -> user(1L, email, "CHARGING")).getStatus()).isEqualTo("CHARGING");
+    }
+
+    @Test
+    void evictsAgainAfterCommitWhenReloadedDuringTransaction() {
+        cache.get("a@test.com", email -> user(1L, email, "ACTIVE"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictByUserId(1L);
+        // 커밋 전 다른 요청이 아직 바뀌지 않은 row 를 읽어 다시 캐시
+        cache.get("a@test.com", email -> user(1L, email, "ACTIVE"));
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        assertThat(cache.get("a@test.com", email -> user(1L, email, "CHARGING")).getStatus()).isEqualTo("CHARGING");
+    }
+
+    @Test
+    void evictByEmailAlsoRunsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evict("a@test.com");
+        cache.get("a@test.com", email -> user(1L, email, "ACTIVE"));
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        assertThat(cache.get("a@test.com", email -> user(1L, email, "DISABLED")).getStatus()).isEqualTo("DISABLED");
+    }
+
+    @Test
+    void keepsOtherUsers() {
+        cache.get("a@test.com", email -> user(1L, email, "ACTIVE"));
+        cache.get("b@test.com", email -> user(2L, email, "ACTIVE"));
+
+        cache.evictByUserId(1L);
+
+        assertThat(cache.get("b@test.com", email -> user(2L, email, "CHARGING")).getStatus()).isEqualTo("ACTIVE");
+    }
+
+    private static CustomUserDetails user(Long userId, String email, String status) {
+        return new CustomUserDetails(User.builder()
+                .userId(userId)
+                .email(email)
+                .password("pw")
+                .name("user")
+                .role("USER")
+                .status(status)
+                .build());
+    }
+}
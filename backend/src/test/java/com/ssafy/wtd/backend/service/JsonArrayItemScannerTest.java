@@ -0,0 +1,116 @@
+package com.ssafy.wtd.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonArrayItemScannerTest {
+
+    @Test
+    void emitsEachTopLevelObject() {
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+
+        assertThat(scanner.feed("[{\"a\":1}, {\"b\":2}]"))
+                .containsExactly("{\"a\":1}", "{\"b\":2}");
+    }
+
+    @Test
+    void skipsCodeFenceAndPreamble() {
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+
+        List<String> items = feedAll(scanner,
+                "추천 결과입니다.\n```json\n", "[\n  {\"placeName\":\"카페\"}\n", "]\n```\n이상입니다.");
+
+        assertThat(items).containsExactly("{\"placeName\":\"카페\"}");
+    }
+
+    @Test
+    void ignoresTextAfterClosingBracket() {
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+
+        assertThat(scanner.feed("[{\"a\":1}] 참고: [{\"b\":2}]")).containsExactly("{\"a\":1}");
+        // 배열이 닫힌 뒤 들어온 조각도 무시
+        assertThat(scanner.feed("{\"c\":3}")).isEmpty();
+    }
+
+    @Test
+    void emitsObjectOnlyWhenComplete() {
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+
+        assertThat(scanner.feed("[{\"name\":\"공")).isEmpty();
+        assertThat(scanner.feed("원\",\"dist\":")).isEmpty();
+        assertThat(scanner.feed("120}, {\"na")).containsExactly("{\"name\":\"공원\",\"dist\":120}");
+        assertThat(scanner.feed("me\":\"서점\"}]")).containsExactly("{\"name\":\"서점\"}");
+    }
+
+    @Test
+    void ignoresBracketsInsideStrings() {
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+
+        List<String> items = feedAll(scanner, "[{\"reason\":\"}] {[ 괄호", "\"}, {\"x\":\"]\"}]");
+
+        assertThat(items).containsExactly("{\"reason\":\"}] {[ 괄호\"}", "{\"x\":\"]\"}");
+    }
+
+    @Test
+    void handlesEscapesSplitAcrossChunks() {
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+
+        // \" 가 조각 경계에서 나뉘어도 문자열이 끝난 것으로 보지 않음
+        List<String> items = feedAll(scanner, "[{\"q\":\"say \\", "\"hi\\", "\"}\"}", "]");
+
+        assertThat(items).containsExactly("{\"q\":\"say \\\"hi\\\"}\"}");
+    }
+
+    @Test
+    void escapedBackslashEndsEscape() {
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+
+        // \\ 다음의 " 는 문자열 끝
+        List<String> items = feedAll(scanner, "[{\"path\":\"C:\\", "\\\"}", ",{\"b\":1}]");
+
+        assertThat(items).containsExactly("{\"path\":\"C:\\\\\"}", "{\"b\":1}");
+    }
+
+    @Test
+    void keepsNestedObjectsAndArraysInOneItem() {
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+
+        List<String> items = feedAll(scanner, "[{\"tags\":[\"a\",{\"k\":[1,2]}],", "\"o\":{\"p\":{}}}]");
+
+        assertThat(items).containsExactly("{\"tags\":[\"a\",{\"k\":[1,2]}],\"o\":{\"p\":{}}}");
+    }
+
+    @Test
+    void sameResultForEverySingleCharacterSplit() {
+        String json = "```json\n[{\"n\":\"a\\\"}]\"},{\"m\":[{\"x\":\"\\\\\"}]}]\n```";
+        List<String> expected = new JsonArrayItemScanner().feed(json);
+        assertThat(expected).hasSize(2);
+
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < json.length(); i++) {
+            items.addAll(scanner.feed(json.substring(i, i + 1)));
+        }
+        assertThat(items).isEqualTo(expected);
+    }
+
+    @Test
+    void nullChunkIsIgnored() {
+        JsonArrayItemScanner scanner = new JsonArrayItemScanner();
+
+        assertThat(scanner.feed(null)).isEmpty();
+        assertThat(scanner.feed("[{}]")).containsExactly("{}");
+    }
+
+    private static List<String> feedAll(JsonArrayItemScanner scanner, String... chunks) {
+        List<String> items = new ArrayList<>();
+        for (String chunk : chunks) {
+            items.addAll(scanner.feed(chunk));
+        }
+        return items;
+    }
+}
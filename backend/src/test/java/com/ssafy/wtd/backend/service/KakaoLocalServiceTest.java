@@ -0,0 +1,60 @@
+package com.ssafy.wtd.backend.service;
+
+import com.ssafy.wtd.backend.dto.activity.KakaoPlace;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class KakaoLocalServiceTest {
+
+    private static final double CELL = 0.002;
+
+    @Test
+    void searchRadiusCoversWholeCell() {
+        // 0.002도 격자의 반대각선: 위도 약 111m, 경도 약 89m (위도 37도) → 약 143m
+        int widened = KakaoLocalService.searchRadius(1000, 37.5, CELL);
+
+        assertThat(widened).isBetween(1140, 1145);
+        // 격자 모서리의 요청 좌표 → 격자 중심까지 거리 + 반경 이 넓힌 반경 안
+        double cornerToCenter = Math.hypot(CELL / 2 * 111_320, CELL / 2 * 111_320 * Math.cos(Math.toRadians(37.5)));
+        assertThat(widened).isGreaterThanOrEqualTo((int) Math.ceil(1000 + cornerToCenter));
+    }
+
+    @Test
+    void searchRadiusIsCappedAtKakaoLimit() {
+        assertThat(KakaoLocalService.searchRadius(20_000, 37.5, CELL)).isEqualTo(20_000);
+    }
+
+    @Test
+    void searchesFromCellCentreWithWidenedRadiusAndSharesCache() {
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        KakaoLocalService service = new KakaoLocalService(builder, CELL, 60, 100);
+        ReflectionTestUtils.setField(service, "restApiKey", "test-key");
+
+        double centreLat = (Math.floor(37.5001 / CELL) + 0.5) * CELL;
+        server.expect(queryParam("radius", String.valueOf(KakaoLocalService.searchRadius(1000, centreLat, CELL))))
+                .andExpect(queryParam("query", "cafe"))
+                .andRespond(withSuccess("""
+                        {"documents":[{"place_name":"카페A","category_name":"음식점 > 카페",
+                          "address_name":"서울 강남구","x":"127.0010","y":"37.5010",
+                          "phone":"","place_url":"http://place.map.kakao.com/1"}]}
+                        """, MediaType.APPLICATION_JSON));
+
+        List<KakaoPlace> first = service.searchPlaces("Cafe", 37.5001, 127.0003, 1000);
+        // 같은 격자의 다른 좌표 → 캐시 공유 (호출 1번)
+        List<KakaoPlace> second = service.searchPlaces(" cafe ", 37.5019, 127.0019, 1000);
+
+        server.verify();
+        assertThat(first).extracting(KakaoPlace::name).containsExactly("카페A");
+        assertThat(second).isSameAs(first);
+    }
+}
@@ -0,0 +1,80 @@
+package com.ssafy.wtd.backend.service;
+
+import com.ssafy.wtd.backend.dto.activity.KakaoPlace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PlaceCandidateServiceTest {
+
+    private static final double LAT = 37.5000;
+    private static final double LNG = 127.0000;
+
+    private KakaoLocalService kakaoLocalService;
+    private PlaceCandidateService service;
+
+    @BeforeEach
+    void setUp() {
+        kakaoLocalService = mock(KakaoLocalService.class);
+        service = new PlaceCandidateService(kakaoLocalService, 4, 16, 4, 3000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void dropsPlacesOutsideRadiusFromCaller() {
+        // 격자 중심 기준으로 넓혀 검색한 결과 → 요청 좌표에서 500m 를 넘는 장소는 제외
+        when(kakaoLocalService.searchPlaces(eq("카페"), anyDouble(), anyDouble(), anyInt())).thenReturn(List.of(
+                place("가까운 카페", LAT + 0.001, LNG),      // 약 111m
+                place("경계 밖 카페", LAT + 0.0055, LNG)));  // 약 612m
+
+        List<Map<String, Object>> places = service.collect(List.of("카페"), LAT, LNG, 500, 10);
+
+        assertThat(places).extracting(p -> p.get("name")).containsExactly("가까운 카페");
+        assertThat((int) places.get(0).get("dist")).isBetween(100, 120);
+    }
+
+    @Test
+    void outOfRadiusPlaceDoesNotHideSameNameFromLaterKeyword() {
+        when(kakaoLocalService.searchPlaces(eq("카페"), anyDouble(), anyDouble(), anyInt())).thenReturn(List.of(
+                place("스타벅스", LAT + 0.0055, LNG)));
+        when(kakaoLocalService.searchPlaces(eq("커피"), anyDouble(), anyDouble(), anyInt())).thenReturn(List.of(
+                place("스타벅스", LAT + 0.002, LNG)));
+
+        List<Map<String, Object>> places = service.collect(List.of("카페", "커피"), LAT, LNG, 500, 10);
+
+        assertThat(places).singleElement().satisfies(p -> {
+            assertThat(p.get("name")).isEqualTo("스타벅스");
+            assertThat((double) p.get("lat")).isEqualTo(LAT + 0.002);
+        });
+    }
+
+    @Test
+    void mergesInKeywordOrderAndDeduplicatesByName() {
+        when(kakaoLocalService.searchPlaces(eq("카페"), anyDouble(), anyDouble(), anyInt())).thenReturn(List.of(
+                place("카페A", LAT + 0.001, LNG), place("공원", LAT, LNG + 0.001)));
+        when(kakaoLocalService.searchPlaces(eq("공원"), anyDouble(), anyDouble(), anyInt())).thenReturn(List.of(
+                place("공원", LAT, LNG + 0.001), place("공원B", LAT, LNG - 0.001)));
+
+        List<Map<String, Object>> places = service.collect(List.of("카페", "공원"), LAT, LNG, 500, 10);
+
+        assertThat(places).extracting(p -> p.get("name")).containsExactly("카페A", "공원", "공원B");
+    }
+
+    private static KakaoPlace place(String name, double lat, double lng) {
+        return new KakaoPlace(name, "카테고리", "주소", lat, lng, "", "http://place.map.kakao.com/" + name);
+    }
+}
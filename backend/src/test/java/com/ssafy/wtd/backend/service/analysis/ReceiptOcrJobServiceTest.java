@@ -0,0 +1,182 @@
+package com.ssafy.wtd.backend.service.analysis;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.ssafy.wtd.backend.dto.charge.OcrJobRes;
+import com.ssafy.wtd.backend.model.ChargeRecord;
+import com.ssafy.wtd.backend.repository.CarbonConfigRepository;
+import com.ssafy.wtd.backend.repository.CarbonRepository;
+import com.ssafy.wtd.backend.repository.ChargeRecordRepository;
+import com.ssafy.wtd.backend.repository.StationRepository;
+import com.ssafy.wtd.backend.repository.UserRepository;
+import com.ssafy.wtd.backend.repository.VehicleRepository;
+import com.ssafy.wtd.backend.security.UserDetailsCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReceiptOcrJobServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String OCR_RESPONSE = """
+            {"images":[{"fields":[
+              {"inferText":"충전량"},{"inferText":"12.48"},
+              {"inferText":"충전금액"},{"inferText":"4,334"},
+              {"inferText":"충전시간"},{"inferText":"16:35"}]}]}
+            """;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    private OcrService ocrService;
+    private RecordService recordService;
+    private ReceiptOcrJobService service;
+
+    @BeforeEach
+    void setUp() {
+        ChargeRecordRepository recordRepository = mock(ChargeRecordRepository.class);
+        ChargeRecord record = new ChargeRecord();
+        record.setStatus("CHARGING");
+        when(recordRepository.selectRecordById(anyLong())).thenReturn(record);
+
+        ocrService = mock(OcrService.class);
+        recordService = new RecordService(
+                mock(StationRepository.class),
+                recordRepository,
+                mock(VehicleRepository.class),
+                mock(CarbonRepository.class),
+                mock(CarbonConfigRepository.class),
+                mock(UserRepository.class),
+                mock(UserDetailsCache.class),
+                ocrService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void runsJobFromPendingToDone() throws InterruptedException {
+        service = new ReceiptOcrJobService(recordService, 1, 10, 30, ticker);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ocrService.callClovaOcr(any(byte[].class), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return OCR_RESPONSE;
+        });
+
+        OcrJobRes submitted = service.submit(10L, image(), USER_ID);
+        assertThat(submitted.getStatus()).isEqualTo("PENDING");
+        assertThat(submitted.getRecordId()).isEqualTo(10L);
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(service.getJob(submitted.getJobId(), USER_ID).getStatus()).isEqualTo("RUNNING");
+
+        release.countDown();
+        OcrJobRes done = awaitFinished(submitted.getJobId());
+
+        assertThat(done.getStatus()).isEqualTo("DONE");
+        assertThat(done.getMessage()).isNull();
+        assertThat(done.getResult().getData().getParsed().getChargedKwh()).isEqualTo(12.48f);
+        assertThat(done.getResult().getData().getParsed().getChargingCost()).isEqualTo(4334);
+        assertThat(done.getResult().getData().getParsed().getDurationText()).isEqualTo("16:35");
+    }
+
+    @Test
+    void marksJobFailedWhenOcrThrows() throws InterruptedException {
+        service = new ReceiptOcrJobService(recordService, 1, 10, 30, ticker);
+        when(ocrService.callClovaOcr(any(byte[].class), any())).thenThrow(new IllegalStateException("timeout"));
+
+        OcrJobRes failed = awaitFinished(service.submit(10L, image(), USER_ID).getJobId());
+
+        assertThat(failed.getStatus()).isEqualTo("FAILED");
+        assertThat(failed.getResult()).isNull();
+        assertThat(failed.getMessage()).contains("timeout");
+    }
+
+    @Test
+    void rejectsWith503WhenQueueIsFull() throws InterruptedException {
+        // worker 1개 + 대기열 1칸 → 세 번째 작업은 거절
+        service = new ReceiptOcrJobService(recordService, 1, 1, 30, ticker);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ocrService.callClovaOcr(any(byte[].class), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return OCR_RESPONSE;
+        });
+
+        service.submit(10L, image(), USER_ID);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        OcrJobRes queued = service.submit(11L, image(), USER_ID);
+
+        assertThatThrownBy(() -> service.submit(12L, image(), USER_ID))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // 대기 중인 작업은 그대로 유지
+        assertThat(service.getJob(queued.getJobId(), USER_ID).getStatus()).isEqualTo("PENDING");
+        release.countDown();
+    }
+
+    @Test
+    void returns404AfterRetention() throws InterruptedException {
+        service = new ReceiptOcrJobService(recordService, 1, 10, 30, ticker);
+        when(ocrService.callClovaOcr(any(byte[].class), any())).thenReturn(OCR_RESPONSE);
+        String jobId = service.submit(10L, image(), USER_ID).getJobId();
+        awaitFinished(jobId);
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(31));
+
+        assertNotFound(jobId, USER_ID);
+    }
+
+    @Test
+    void hidesJobFromOtherUsers() throws InterruptedException {
+        service = new ReceiptOcrJobService(recordService, 1, 10, 30, ticker);
+        when(ocrService.callClovaOcr(any(byte[].class), any())).thenReturn(OCR_RESPONSE);
+        String jobId = service.submit(10L, image(), USER_ID).getJobId();
+
+        assertNotFound(jobId, 2L);
+        assertThat(awaitFinished(jobId).getStatus()).isEqualTo("DONE");
+    }
+
+    private OcrJobRes awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            OcrJobRes res = service.getJob(jobId, USER_ID);
+            if ("DONE".equals(res.getStatus()) || "FAILED".equals(res.getStatus())
+                    || System.nanoTime() > deadline) {
+                return res;
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private void assertNotFound(String jobId, Long userId) {
+        assertThatThrownBy(() -> service.getJob(jobId, userId))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    private static MockMultipartFile image() {
+        return new MockMultipartFile("file", "receipt.jpg", "image/jpeg", new byte[]{1, 2, 3});
+    }
+}
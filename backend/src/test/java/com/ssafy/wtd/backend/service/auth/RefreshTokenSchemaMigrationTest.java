@@ -0,0 +1,54 @@
+package com.ssafy.wtd.backend.service.auth;
+
+import com.ssafy.wtd.backend.repository.RefreshTokenSchemaRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenSchemaMigrationTest {
+
+    private final RefreshTokenSchemaRepository repository = mock(RefreshTokenSchemaRepository.class);
+    private final RefreshTokenSchemaMigration migration = new RefreshTokenSchemaMigration(repository);
+
+    @Test
+    void migratesLegacyTable() {
+        when(repository.countColumn("token")).thenReturn(1);
+        when(repository.countColumn("token_hash")).thenReturn(0);
+
+        migration.migrate();
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).addTokenHashColumn();
+        order.verify(repository).fillTokenHashes();
+        order.verify(repository).deleteDuplicateHashes();
+        order.verify(repository).finishTokenHashColumn();
+    }
+
+    @Test
+    void resumesWhenHashColumnWasAlreadyAdded() {
+        when(repository.countColumn("token")).thenReturn(1);
+        when(repository.countColumn("token_hash")).thenReturn(1);
+
+        migration.migrate();
+
+        verify(repository, never()).addTokenHashColumn();
+        verify(repository).fillTokenHashes();
+        verify(repository).finishTokenHashColumn();
+    }
+
+    @Test
+    void skipsMigratedTable() {
+        when(repository.countColumn("token")).thenReturn(0);
+
+        migration.migrate();
+
+        verify(repository, never()).addTokenHashColumn();
+        verify(repository, never()).fillTokenHashes();
+        verify(repository, never()).finishTokenHashColumn();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ssafy.wtd.backend.service.auth;
+
+import com.ssafy.wtd.backend.dto.auth.RefreshTokenRes;
+import com.ssafy.wtd.backend.model.RefreshToken;
+import com.ssafy.wtd.backend.model.User;
+import com.ssafy.wtd.backend.repository.RefreshTokenRepository;
+import com.ssafy.wtd.backend.security.CustomUserDetails;
+import com.ssafy.wtd.backend.security.JwtUtil;
+import com.ssafy.wtd.backend.security.TokenHashes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceTest {
+
+    private static final String TOKEN = "refresh-token";
+    private static final String EMAIL = "user@test.com";
+
+    private RefreshTokenRepository repository;
+    private JwtUtil jwtUtil;
+    private UserDetailsService userDetailsService;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RefreshTokenRepository.class);
+        jwtUtil = mock(JwtUtil.class);
+        userDetailsService = mock(UserDetailsService.class);
+        service = new RefreshTokenService(repository, jwtUtil, userDetailsService);
+
+        RefreshToken stored = new RefreshToken();
+        stored.setUserId(1L);
+        stored.setTokenHash(TokenHashes.sha256(TOKEN));
+        stored.setExpiresAt(LocalDateTime.now().plusDays(1));
+        when(repository.findByTokenHash(TokenHashes.sha256(TOKEN))).thenReturn(stored);
+        when(repository.deleteByTokenHash(TokenHashes.sha256(TOKEN))).thenReturn(1);
+
+        when(jwtUtil.extractEmail(TOKEN)).thenReturn(EMAIL);
+        when(jwtUtil.generateAccessToken(any())).thenReturn("new-access");
+        when(jwtUtil.generateRefreshToken(any())).thenReturn("new-refresh");
+        when(jwtUtil.getRefreshTokenExpiration()).thenReturn(60_000L);
+    }
+
+    @Test
+    void refreshesActiveUser() {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(user(1L, "ACTIVE"));
+
+        RefreshTokenRes res = service.refresh(TOKEN);
+
+        assertThat(res.getAccessToken()).isEqualTo("new-access");
+        assertThat(res.getRefreshToken()).isEqualTo("new-refresh");
+    }
+
+    @Test
+    void refreshesChargingUser() {
+        // 충전 중(CHARGING) 인 사용자도 로그인 상태를 유지해야 함
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(user(1L, "CHARGING"));
+
+        RefreshTokenRes res = service.refresh(TOKEN);
+
+        assertThat(res.getAccessToken()).isEqualTo("new-access");
+    }
+
+    @Test
+    void rejectsDisabledUser() {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(user(1L, "DISABLED"));
+
+        assertThatThrownBy(() -> service.refresh(TOKEN))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+
+    @Test
+    void rejectsTokenOfAnotherUser() {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(user(2L, "ACTIVE"));
+
+        assertThatThrownBy(() -> service.refresh(TOKEN))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+
+    private static CustomUserDetails user(Long userId, String status) {
+        return new CustomUserDetails(User.builder()
+                .userId(userId)
+                .email(EMAIL)
+                .password("pw")
+                .name("user")
+                .role("USER")
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,74 @@
+package com.ssafy.wtd.backend.service.station;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChargerFingerprintTableTest {
+
+    @Test
+    void putAndGetAcrossResize() {
+        ChargerFingerprintTable table = new ChargerFingerprintTable(4);
+        for (int i = 0; i < 1000; i++) {
+            table.put("ME" + i, ChargerFingerprintTable.fingerprint(i % 10, "DC", "07"));
+        }
+
+        assertThat(table.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(table.get("ME" + i)).isEqualTo(ChargerFingerprintTable.fingerprint(i % 10, "DC", "07"));
+        }
+        assertThat(table.get("UNKNOWN")).isEqualTo(ChargerFingerprintTable.MISSING);
+    }
+
+    @Test
+    void isChangedComparesStoredFingerprint() {
+        ChargerFingerprintTable table = new ChargerFingerprintTable(16);
+        int fp = ChargerFingerprintTable.fingerprint(2, "AC", "02");
+
+        assertThat(table.isChanged("A1", fp)).isTrue();
+        table.put("A1", fp);
+        assertThat(table.isChanged("A1", fp)).isFalse();
+        assertThat(table.isChanged("A1", ChargerFingerprintTable.withStatus(fp, 3))).isTrue();
+    }
+
+    @Test
+    void withStatusKeepsTypeBits() {
+        int fp = ChargerFingerprintTable.fingerprint(2, "DC", "07");
+        int changed = ChargerFingerprintTable.withStatus(fp, 5);
+
+        assertThat(ChargerFingerprintTable.statusOf(changed)).isEqualTo(5);
+        assertThat(changed).isEqualTo(ChargerFingerprintTable.fingerprint(5, "DC", "07"));
+    }
+
+    @Test
+    void removeKeepsProbeChainsReachable() {
+        ChargerFingerprintTable table = new ChargerFingerprintTable(64);
+        for (int i = 0; i < 40; i++) {
+            table.put("C" + i, i);
+        }
+        for (int i = 0; i < 40; i += 2) {
+            table.remove("C" + i);
+        }
+
+        assertThat(table.size()).isEqualTo(20);
+        for (int i = 0; i < 40; i++) {
+            int expected = i % 2 == 0 ? ChargerFingerprintTable.MISSING : i;
+            assertThat(table.get("C" + i)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void generationTracksSeenChargers() {
+        ChargerFingerprintTable table = new ChargerFingerprintTable(16);
+        table.put("A", 1);
+        table.put("B", 2);
+
+        table.beginGeneration();
+        table.markSeen("A");
+        table.markSeen("UNKNOWN");
+
+        assertThat(table.wasSeen("A")).isTrue();
+        assertThat(table.wasSeen("B")).isFalse();
+        assertThat(table.wasSeen("UNKNOWN")).isFalse();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.wtd.backend.client.EnvEvChargerClient;
+import com.ssafy.wtd.backend.dto.external.EnvEvChargerItem;
+import com.ssafy.wtd.backend.model.Station;
+import com.ssafy.wtd.backend.repository.station.ChargerRepository;
+import com.ssafy.wtd.backend.repository.station.ChargingStationRepository;
+import com.ssafy.wtd.backend.repository.station.SyncWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ChargingStationSyncServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ChargingStationRepository stationRepository;
+    private ChargerRepository chargerRepository;
+    private ChargingStationSyncService service;
+    private SyncReport.RegionProgress progress;
+
+    @BeforeEach
+    void setUp() {
+        stationRepository = mock(ChargingStationRepository.class);
+        chargerRepository = mock(ChargerRepository.class);
+        service = new ChargingStationSyncService(
+                mock(EnvEvChargerClient.class),
+                stationRepository,
+                chargerRepository,
+                mock(SyncWatermarkRepository.class),
+                mock(StationSnapshotService.class),
+                mock(StationStatusPushService.class),
+                mock(StationDetailService.class));
+        ReflectionTestUtils.setField(service, "self", service);
+        ReflectionTestUtils.setField(service, "batchChunkSize", 500);
+        progress = new SyncReport(List.of("11")).region("11");
+    }
+
+    @Test
+    void writesNewStationAndCharger() {
+        int written = service.applyFull(List.of(item("ST1", "01", "강남 충전소", "2")), changeLog(), progress);
+
+        assertThat(written).isEqualTo(1);
+        assertThat(savedStations()).extracting(Station::getStationName).containsExactly("강남 충전소");
+        assertThat(progress.getWrittenStations()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsUnchangedStationAndCharger() {
+        service.applyFull(List.of(item("ST1", "01", "강남 충전소", "2")), changeLog(), progress);
+        clearInvocations(stationRepository, chargerRepository);
+
+        int written = service.applyFull(List.of(item("ST1", "01", "강남 충전소", "2")), changeLog(), progress);
+
+        assertThat(written).isEqualTo(0);
+        verify(stationRepository, never()).saveOrUpdateAll(anyList());
+        verify(chargerRepository, never()).saveOrUpdateAll(anyList());
+    }
+
+    @Test
+    void writesRenamedStationEvenWhenChargersAreUnchanged() {
+        service.applyFull(List.of(
+                item("ST1", "01", "강남 충전소", "2"),
+                item("ST1", "02", "강남 충전소", "3")), changeLog(), progress);
+        clearInvocations(stationRepository, chargerRepository);
+
+        int written = service.applyFull(List.of(
+                item("ST1", "01", "강남역 공영주차장 충전소", "2"),
+                item("ST1", "02", "강남역 공영주차장 충전소", "3")), changeLog(), progress);
+
+        // 충전기는 그대로라 충전기 upsert 는 없고, 충전소만 새 이름으로 1번 저장
+        assertThat(written).isEqualTo(0);
+        assertThat(savedStations()).extracting(Station::getStationName).containsExactly("강남역 공영주차장 충전소");
+        verify(chargerRepository, never()).saveOrUpdateAll(anyList());
+    }
+
+    @Test
+    void upsertsStationOnceWhenOnlyLaterChargerChanged() {
+        service.applyFull(List.of(
+                item("ST1", "01", "강남 충전소", "2"),
+                item("ST1", "02", "강남 충전소", "2")), changeLog(), progress);
+        clearInvocations(stationRepository, chargerRepository);
+
+        int written = service.applyFull(List.of(
+                item("ST1", "01", "강남 충전소", "2"),
+                item("ST1", "02", "강남 충전소", "3")), changeLog(), progress);
+
+        // 바뀐 충전기의 충전소는 FK 를 위해 함께 upsert
+        assertThat(written).isEqualTo(1);
+        assertThat(savedStations()).extracting(Station::getStationId).containsExactly("ST1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Station> savedStations() {
+        ArgumentCaptor<List<Station>> captor = ArgumentCaptor.forClass(List.class);
+        verify(stationRepository).saveOrUpdateAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static ChargerChangeLog changeLog() {
+        return new ChargerChangeLog(1000);
+    }
+
+    private EnvEvChargerItem item(String statId, String chgerId, String statNm, String stat) {
+        return objectMapper.convertValue(Map.of(
+                "statId", statId,
+                "chgerId", chgerId,
+                "statNm", statNm,
+                "addr", "서울특별시 강남구 테헤란로 1",
+                "lat", "37.4979",
+                "lng", "127.0276",
+                "chgerType", "04",
+                "stat", stat,
+                "powerType", "급속(50kW)"), EnvEvChargerItem.class);
+    }
+}
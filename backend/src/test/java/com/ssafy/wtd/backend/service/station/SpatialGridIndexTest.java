@@ -0,0 +1,118 @@
+package com.ssafy.wtd.backend.service.station;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpatialGridIndexTest {
+
+    // 수도권 근처에 무작위 충전소 (격자 여러 칸에 걸치도록 약 1도 범위)
+    private static final int N = 3000;
+
+    private final double[] lats = new double[N];
+    private final double[] lngs = new double[N];
+    private final SpatialGridIndex index;
+
+    SpatialGridIndexTest() {
+        Random random = new Random(42);
+        for (int i = 0; i < N; i++) {
+            lats[i] = 37.0 + random.nextDouble();
+            lngs[i] = 126.5 + random.nextDouble();
+        }
+        index = new SpatialGridIndex(lats, lngs);
+    }
+
+    @Test
+    void nearestMatchesBruteForceOrderAndLimit() {
+        double lat = 37.4979, lng = 127.0276;
+
+        int[] all = index.nearest(lat, lng, 5_000, 0);
+        int[] top10 = index.nearest(lat, lng, 5_000, 10);
+
+        int[] expected = bruteForceNearest(lat, lng, 5_000);
+        assertThat(expected.length).isGreaterThan(10);
+        assertThat(all).containsExactly(expected);
+        assertThat(top10).containsExactly(IntStream.of(expected).limit(10).toArray());
+    }
+
+    @Test
+    void nearestAtDataEdgeMatchesBruteForce() {
+        // 데이터 범위 모서리 → 후보 bbox 가 격자 밖으로 나가도 누락 없음
+        double lat = 37.0, lng = 126.5;
+
+        assertThat(index.nearest(lat, lng, 8_000, 0)).containsExactly(bruteForceNearest(lat, lng, 8_000));
+    }
+
+    @Test
+    void nearestReturnsEmptyWhenNothingInRadius() {
+        assertThat(index.nearest(35.1, 129.0, 1_000, 10)).isEmpty();
+    }
+
+    @Test
+    void boxAcrossCellBoundariesMatchesBruteForce() {
+        // 격자 최소 크기(0.01도) 의 여러 배에 걸치고 경계가 격자와 어긋난 범위
+        double minLat = 37.3333, maxLat = 37.4567, minLng = 126.9012, maxLng = 127.1234;
+
+        assertThat(index.withinBox(minLat, maxLat, minLng, maxLng))
+                .containsExactly(bruteForceBox(minLat, maxLat, minLng, maxLng));
+    }
+
+    @Test
+    void boxIncludesPointsOnEdges() {
+        int i = 123;
+
+        assertThat(index.withinBox(lats[i], lats[i], lngs[i], lngs[i])).contains(i);
+    }
+
+    @Test
+    void boxPartlyOutsideDataMatchesBruteForce() {
+        double minLat = 36.5, maxLat = 37.05, minLng = 126.0, maxLng = 126.6;
+
+        assertThat(index.withinBox(minLat, maxLat, minLng, maxLng))
+                .containsExactly(bruteForceBox(minLat, maxLat, minLng, maxLng));
+    }
+
+    @Test
+    void invertedBoxIsEmpty() {
+        assertThat(index.withinBox(37.5, 37.4, 127.0, 127.1)).isEmpty();
+    }
+
+    @Test
+    void emptyGridReturnsNothing() {
+        SpatialGridIndex empty = new SpatialGridIndex(new double[0], new double[0]);
+
+        assertThat(empty.withinBox(-90, 90, -180, 180)).isEmpty();
+        assertThat(empty.nearest(37.5, 127.0, 10_000, 10)).isEmpty();
+    }
+
+    @Test
+    void singleStationGrid() {
+        SpatialGridIndex single = new SpatialGridIndex(new double[]{37.5}, new double[]{127.0});
+
+        assertThat(single.withinBox(37.4, 37.6, 126.9, 127.1)).containsExactly(0);
+        assertThat(single.nearest(37.5, 127.001, 500, 5)).containsExactly(0);
+        assertThat(single.nearest(37.6, 127.0, 500, 5)).isEmpty();
+    }
+
+    private int[] bruteForceNearest(double lat, double lng, double radiusM) {
+        // nearest 와 같은 정렬 기준 (float 거리 → 인덱스)
+        return IntStream.range(0, N)
+                .filter(i -> SpatialGridIndex.distanceMeters(lat, lng, lats[i], lngs[i]) <= radiusM)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingDouble(
+                                i -> (float) SpatialGridIndex.distanceMeters(lat, lng, lats[i], lngs[i]))
+                        .thenComparingInt(i -> i))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private int[] bruteForceBox(double minLat, double maxLat, double minLng, double maxLng) {
+        return IntStream.range(0, N)
+                .filter(i -> lats[i] >= minLat && lats[i] <= maxLat && lngs[i] >= minLng && lngs[i] <= maxLng)
+                .toArray();
+    }
+}
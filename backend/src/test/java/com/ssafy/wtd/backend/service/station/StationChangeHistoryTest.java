@@ -0,0 +1,111 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationChangeHistoryTest {
+
+    @Test
+    void recordsChangedAndRemovedStations() {
+        StationChangeHistory history = new StationChangeHistory(8, 100);
+        StationMarkerSnapshot v1 = snapshot(1, marker("A", 1), marker("B", 1), marker("C", 1));
+        StationMarkerSnapshot v2 = snapshot(2, marker("A", 1), marker("B", 0), marker("D", 2));
+        history.record(v1, v2);
+
+        List<StationChangeHistory.ChangeSet> sets = history.between(1, 2);
+        assertThat(sets).hasSize(1);
+        assertThat(sets.get(0).changedIds()).containsExactly("B", "D");
+        assertThat(sets.get(0).removed().get(0).getStationId()).isEqualTo("C");
+        assertThat(sets.get(0).removed()).hasSize(1);
+    }
+
+    @Test
+    void chainsConsecutiveChangeSets() {
+        StationChangeHistory history = new StationChangeHistory(8, 100);
+        recordChain(history, 1, 4);
+
+        assertThat(versions(history.between(1, 4))).containsExactly(2L, 3L, 4L);
+        assertThat(versions(history.between(2, 4))).containsExactly(3L, 4L);
+        assertThat(versions(history.between(1, 3))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void upToDateClientGetsEmptyChanges() {
+        StationChangeHistory history = new StationChangeHistory(8, 100);
+        recordChain(history, 1, 3);
+
+        assertThat(history.between(3, 3)).isEmpty();
+    }
+
+    @Test
+    void versionOlderThanBufferNeedsFullResponse() {
+        StationChangeHistory history = new StationChangeHistory(2, 100);
+        recordChain(history, 1, 5);   // 2→3 이전 기록은 밀려남
+
+        assertThat(history.between(1, 5)).isNull();
+        assertThat(history.between(2, 5)).isNull();
+        assertThat(versions(history.between(3, 5))).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void unknownVersionNeedsFullResponse() {
+        StationChangeHistory history = new StationChangeHistory(8, 100);
+        recordChain(history, 10, 12);
+
+        assertThat(history.between(7, 12)).isNull();      // 기록된 적 없는 버전
+        assertThat(history.between(11, 13)).isNull();     // 아직 없는 버전까지
+    }
+
+    @Test
+    void overflowedChangeSetBreaksTheChain() {
+        StationChangeHistory history = new StationChangeHistory(8, 1);
+        StationMarkerSnapshot v1 = snapshot(1, marker("A", 1), marker("B", 1));
+        StationMarkerSnapshot v2 = snapshot(2, marker("A", 0), marker("B", 0));   // 2건 > 한도 1
+        StationMarkerSnapshot v3 = snapshot(3, marker("A", 1), marker("B", 0));
+        history.record(v1, v2);
+        history.record(v2, v3);
+
+        assertThat(history.between(1, 3)).isNull();
+        assertThat(history.between(2, 3)).hasSize(1);
+        assertThat(history.between(2, 3).get(0).changedIds()).containsExactly("A");
+    }
+
+    private static void recordChain(StationChangeHistory history, long from, long to) {
+        StationMarkerSnapshot before = snapshot(from, marker("A", 0));
+        for (long v = from + 1; v <= to; v++) {
+            StationMarkerSnapshot after = snapshot(v, marker("A", (int) v));
+            history.record(before, after);
+            before = after;
+        }
+    }
+
+    private static List<Long> versions(List<StationChangeHistory.ChangeSet> sets) {
+        assertThat(sets).isNotNull();
+        List<Long> versions = new ArrayList<>();
+        for (StationChangeHistory.ChangeSet set : sets) {
+            versions.add(set.toVersion());
+        }
+        return versions;
+    }
+
+    private static StationMarkerSnapshot snapshot(long version, StationMarkerDto... markers) {
+        List<String> addresses = new ArrayList<>();
+        List<RegionAddress> regions = new ArrayList<>();
+        for (StationMarkerDto ignored : markers) {
+            addresses.add("서울특별시 강남구 역삼동 1");
+            regions.add(RegionAddress.parse("서울특별시 강남구 역삼동 1"));
+        }
+        return new StationMarkerSnapshot(version, LocalDateTime.now(), 0, List.of(markers), addresses, regions);
+    }
+
+    private static StationMarkerDto marker(String id, int available) {
+        return new StationMarkerDto(id, "충전소 " + id, 37.5, 127.0, available, 2,
+                available > 0 ? "GREEN" : "GRAY");
+    }
+}
@@ -0,0 +1,162 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.StationClusterDto;
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class StationClusterIndexTest {
+
+    private static final String[] COLORS = {"GREEN", "BLUE", "GRAY"};
+
+    @Test
+    void clusterCountsSumToStationCountAtEveryZoom() {
+        Stations stations = randomStations(2000);
+        StationClusterIndex index = stations.index();
+
+        for (int zoom = 0; zoom <= StationClusterIndex.MAX_ZOOM; zoom++) {
+            List<StationClusterDto> clusters = index.clusters(-85, 85, -180, 180, zoom);
+
+            assertThat(clusters.stream().mapToInt(StationClusterDto::getCount).sum())
+                    .as("zoom %d", zoom).isEqualTo(2000);
+            assertThat(clusters.stream().mapToInt(StationClusterDto::getAvailableCount).sum())
+                    .as("zoom %d", zoom).isEqualTo(stations.availableSum());
+            assertThat(clusters.stream().mapToInt(StationClusterDto::getTotalCount).sum())
+                    .as("zoom %d", zoom).isEqualTo(stations.totalSum());
+        }
+    }
+
+    @Test
+    void clusterCountsInBoxMatchStationCellsInBox() {
+        Stations stations = randomStations(2000);
+        StationClusterIndex index = stations.index();
+        double minLat = 37.2, maxLat = 37.6, minLng = 126.8, maxLng = 127.3;
+
+        for (int zoom = 0; zoom <= StationClusterIndex.MAX_ZOOM; zoom++) {
+            // 클러스터는 셀 단위이므로 bbox 와 겹치는 셀에 속한 충전소 수와 같아야 함
+            int bits = zoom + 3;
+            int x0 = WebMercator.cell(WebMercator.x(minLng), bits), x1 = WebMercator.cell(WebMercator.x(maxLng), bits);
+            int y0 = WebMercator.cell(WebMercator.y(maxLat), bits), y1 = WebMercator.cell(WebMercator.y(minLat), bits);
+            long expected = IntStream.range(0, 2000).filter(i -> {
+                int x = WebMercator.cell(WebMercator.x(stations.lngs[i]), bits);
+                int y = WebMercator.cell(WebMercator.y(stations.lats[i]), bits);
+                return x >= x0 && x <= x1 && y >= y0 && y <= y1;
+            }).count();
+
+            List<StationClusterDto> clusters = index.clusters(minLat, maxLat, minLng, maxLng, zoom);
+
+            assertThat((long) clusters.stream().mapToInt(StationClusterDto::getCount).sum())
+                    .as("zoom %d", zoom).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void topZoomReturnsIndividualStations() {
+        // 약 1km 간격 격자 → MAX_ZOOM 셀(수십 m) 하나에 충전소가 2개 이상 들어가지 않음
+        List<StationMarkerDto> markers = new ArrayList<>();
+        for (int r = 0; r < 10; r++) {
+            for (int c = 0; c < 10; c++) {
+                markers.add(marker("ST" + (r * 10 + c), 37.4 + r * 0.01, 127.0 + c * 0.01, "GREEN"));
+            }
+        }
+        StationClusterIndex index = index(markers);
+
+        List<StationClusterDto> clusters = index.clusters(37.3, 37.6, 126.9, 127.2, StationClusterIndex.MAX_ZOOM);
+
+        assertThat(clusters).hasSize(100);
+        assertThat(clusters).allSatisfy(cluster -> assertThat(cluster.getCount()).isEqualTo(1));
+        assertThat(clusters).extracting(StationClusterDto::getStationId)
+                .containsExactlyInAnyOrderElementsOf(markers.stream().map(StationMarkerDto::getStationId).toList());
+        StationClusterDto first = clusters.stream().filter(c -> "ST0".equals(c.getStationId())).findFirst().orElseThrow();
+        assertThat(first.getLat()).isEqualTo(37.4);
+        assertThat(first.getLng()).isEqualTo(127.0);
+    }
+
+    @Test
+    void zoomAboveMaxIsClamped() {
+        StationClusterIndex index = index(List.of(
+                marker("ST1", 37.50, 127.00, "GREEN"),
+                marker("ST2", 37.51, 127.01, "BLUE")));
+
+        assertThat(index.clusters(37.4, 37.6, 126.9, 127.1, 21))
+                .extracting(StationClusterDto::getStationId)
+                .containsExactlyInAnyOrder("ST1", "ST2");
+    }
+
+    @Test
+    void lowZoomMergesStationsIntoOneCluster() {
+        StationClusterIndex index = index(List.of(
+                marker("ST1", 37.50, 127.00, "GREEN"),
+                marker("ST2", 35.10, 129.00, "BLUE"),
+                marker("ST3", 33.50, 126.50, "BLUE")));
+
+        List<StationClusterDto> clusters = index.clusters(-85, 85, -180, 180, 0);
+
+        assertThat(clusters).hasSize(1);
+        StationClusterDto cluster = clusters.get(0);
+        assertThat(cluster.getCount()).isEqualTo(3);
+        assertThat(cluster.getStationId()).isNull();
+        assertThat(cluster.getMarkerColor()).isEqualTo("BLUE");
+        assertThat(cluster.getLat()).isCloseTo((37.50 + 35.10 + 33.50) / 3, within(1e-9));
+    }
+
+    @Test
+    void emptyIndexReturnsNoClusters() {
+        StationClusterIndex index = index(List.of());
+
+        assertThat(index.clusters(-85, 85, -180, 180, 0)).isEmpty();
+        assertThat(index.clusters(37.4, 37.6, 126.9, 127.1, StationClusterIndex.MAX_ZOOM)).isEmpty();
+    }
+
+    private static Stations randomStations(int n) {
+        Random random = new Random(7);
+        List<StationMarkerDto> markers = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            int total = 1 + random.nextInt(6);
+            markers.add(new StationMarkerDto("ST" + i, "충전소" + i,
+                    33.0 + random.nextDouble() * 5.5, 125.0 + random.nextDouble() * 4.5,
+                    random.nextInt(total + 1), total, COLORS[random.nextInt(3)]));
+        }
+        return new Stations(markers);
+    }
+
+    private static StationClusterIndex index(List<StationMarkerDto> markers) {
+        return new Stations(markers).index();
+    }
+
+    private static StationMarkerDto marker(String id, double lat, double lng, String color) {
+        return new StationMarkerDto(id, id, lat, lng, 1, 2, color);
+    }
+
+    private static final class Stations {
+
+        final List<StationMarkerDto> markers;
+        final double[] lats;
+        final double[] lngs;
+
+        Stations(List<StationMarkerDto> markers) {
+            this.markers = markers;
+            this.lats = markers.stream().mapToDouble(StationMarkerDto::getLat).toArray();
+            this.lngs = markers.stream().mapToDouble(StationMarkerDto::getLng).toArray();
+        }
+
+        StationClusterIndex index() {
+            return new StationClusterIndex(markers, lats, lngs);
+        }
+
+        int availableSum() {
+            return markers.stream().mapToInt(StationMarkerDto::getAvailableCount).sum();
+        }
+
+        int totalSum() {
+            return markers.stream().mapToInt(StationMarkerDto::getTotalCount).sum();
+        }
+    }
+}
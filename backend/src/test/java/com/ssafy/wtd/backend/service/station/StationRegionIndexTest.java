@@ -0,0 +1,106 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.RegionCountDto;
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+import com.ssafy.wtd.backend.model.SidoCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationRegionIndexTest {
+
+    private static final List<String> ADDRESSES = List.of(
+            "경기도 수원시 영통구 매탄동 123",                 // 0
+            "경기 수원시 장안구 정자동 45",                    // 1
+            "경기도\u00A0수원시 영통구\u3000원천동 7",     // 2 (NBSP / 전각 공백)
+            "강원도 춘천시 중앙로 1 (효자동)",                 // 3 (구 명칭)
+            "강원특별자치도 원주시 단계동 9",                  // 4
+            "전라북도 전주시 완산구 효자동3가 1",              // 5 (구 명칭)
+            "세종특별자치시 한누리대로 2130 (보람동)",         // 6 (시군구 없음)
+            "서울 강남구 테헤란로 212 (역삼동)",               // 7
+            "알수없음 어딘가 1");                              // 8
+
+    private final StationRegionIndex index = index(ADDRESSES);
+
+    @Test
+    void sidoAliasesResolveToSameCode() {
+        assertThat(SidoCode.fromName("서울")).isEqualTo(SidoCode.SEOUL);
+        assertThat(SidoCode.fromName("서울시")).isEqualTo(SidoCode.SEOUL);
+        assertThat(SidoCode.fromName("서울특별시")).isEqualTo(SidoCode.SEOUL);
+        assertThat(SidoCode.fromName("강원도")).isEqualTo(SidoCode.GANGWON);
+        assertThat(SidoCode.fromName("강원특별자치도")).isEqualTo(SidoCode.GANGWON);
+        assertThat(SidoCode.fromName("충북")).isEqualTo(SidoCode.CHUNGBUK);
+        assertThat(SidoCode.fromName("충청북도")).isEqualTo(SidoCode.CHUNGBUK);
+        assertThat(SidoCode.fromName("전라북도")).isEqualTo(SidoCode.JEONBUK);
+        assertThat(SidoCode.fromName("전북특별자치도")).isEqualTo(SidoCode.JEONBUK);
+        assertThat(SidoCode.fromName("알수없음")).isNull();
+    }
+
+    @Test
+    void stationsUnderOldAndNewSidoNamesShareOneKey() {
+        // 주소가 강원도 / 강원특별자치도 로 섞여 있어도 조회 이름과 관계없이 같은 결과
+        assertThat(index.lookup(SidoCode.fromName("강원도"), null)).containsExactly(3, 4);
+        assertThat(index.lookup(SidoCode.fromName("강원특별자치도"), "")).containsExactly(3, 4);
+        assertThat(index.lookup(SidoCode.fromName("경기"), null)).containsExactly(0, 1, 2);
+        assertThat(index.lookup(SidoCode.fromName("전북"), "전주시")).containsExactly(5);
+    }
+
+    @Test
+    void multiWordDistrictMatchesWithAnyWhitespace() {
+        SidoCode gyeonggi = SidoCode.GYEONGGI;
+
+        assertThat(index.lookup(gyeonggi, "수원시 영통구")).containsExactly(0, 2);
+        assertThat(index.lookup(gyeonggi, "수원시영통구")).containsExactly(0, 2);
+        assertThat(index.lookup(gyeonggi, " 수원시\t 영통구 ")).containsExactly(0, 2);
+        assertThat(index.lookup(gyeonggi, "수원시\u00A0영통구")).containsExactly(0, 2);
+        assertThat(index.lookup(gyeonggi, "영통구")).containsExactly(0, 2);
+        assertThat(index.lookup(gyeonggi, "영통")).containsExactly(0, 2);
+        assertThat(index.lookup(gyeonggi, "수원시")).containsExactly(0, 1, 2);
+        assertThat(index.lookup(gyeonggi, "수원시 장안구")).containsExactly(1);
+        assertThat(index.lookup(gyeonggi, "원천동")).containsExactly(2);
+    }
+
+    @Test
+    void dongFromRoadAddressReferenceAndMissingSigungu() {
+        assertThat(index.lookup(SidoCode.GANGWON, "효자동")).containsExactly(3);
+        assertThat(index.lookup(SidoCode.SEJONG, "보람동")).containsExactly(6);
+        assertThat(index.lookup(SidoCode.SEOUL, "역삼동")).containsExactly(7);
+        assertThat(index.lookup(SidoCode.SEOUL, "강남")).containsExactly(7);
+        assertThat(index.lookup(SidoCode.SEOUL, "서초구")).isEmpty();
+    }
+
+    @Test
+    void countsGroupMultiWordDistrictsUnderSigungu() {
+        List<RegionCountDto> sidos = index.counts(null);
+        assertThat(sidos).extracting(RegionCountDto::getRegionName)
+                .containsExactly("서울특별시", "세종특별자치시", "경기도", "강원특별자치도", "전북특별자치도");
+
+        List<RegionCountDto> gyeonggi = index.counts(SidoCode.GYEONGGI);
+        assertThat(gyeonggi).singleElement().satisfies(suwon -> {
+            assertThat(suwon.getRegionName()).isEqualTo("수원시");
+            assertThat(suwon.getStationCount()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void parsesAddressWithUnusualWhitespace() {
+        RegionAddress region = RegionAddress.parse("\u00A0경기도\u00A0 수원시\u3000영통구  매탄동 123 ");
+
+        assertThat(region).isEqualTo(new RegionAddress(SidoCode.GYEONGGI, "수원시", "영통구", "매탄동"));
+        assertThat(RegionAddress.parse("\u00A0\u3000")).isNull();
+        assertThat(RegionAddress.parse("알수없음 어딘가 1")).isNull();
+    }
+
+    private static StationRegionIndex index(List<String> addresses) {
+        List<StationMarkerDto> markers = new ArrayList<>();
+        List<RegionAddress> regions = new ArrayList<>();
+        for (int i = 0; i < addresses.size(); i++) {
+            markers.add(new StationMarkerDto("ST" + i, "충전소" + i, 37.0, 127.0, 1, 2, "BLUE"));
+            regions.add(RegionAddress.parse(addresses.get(i)));
+        }
+        return new StationRegionIndex(markers, regions);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.wtd.backend.service.station;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationSearchIndexTest {
+
+    // 스냅샷과 같이 소문자로 정규화된 이름 / 주소
+    private final StationSearchIndex index = new StationSearchIndex(
+            new String[]{"강남역 공영주차장", "강남", "서초 강남 충전소", "역삼 충전소"},
+            new String[]{"서울 강남구 역삼동", "서울 강남구", "서울 서초구", "서울 강남구 역삼동 강남대로"});
+
+    @Test
+    void ranksExactThenPrefixThenContainsThenAddress() {
+        assertThat(index.search("강남", 0, 0)).containsExactly(1, 0, 2, 3);
+    }
+
+    @Test
+    void everyTermMustMatchNameOrAddress() {
+        // 점수가 같으면 이름이 짧은 쪽이 먼저
+        assertThat(index.search("강남 역삼", 0, 0)).containsExactly(3, 0);
+    }
+
+    @Test
+    void ignoresCaseAndExtraWhitespace() {
+        StationSearchIndex latin = new StationSearchIndex(
+                new String[]{"ev station", "gs칼텍스"}, new String[]{"seoul", "busan"});
+
+        assertThat(latin.search("  EV   Station ", 0, 0)).containsExactly(0);
+        assertThat(latin.search("GS", 0, 0)).containsExactly(1);
+    }
+
+    @Test
+    void singleCharacterFallsBackToScan() {
+        assertThat(index.search("역", 0, 0)).containsExactly(3, 0);
+    }
+
+    @Test
+    void pagesRankedResults() {
+        assertThat(index.search("강남", 0, 2)).containsExactly(1, 0);
+        assertThat(index.search("강남", 1, 2)).containsExactly(2, 3);
+        assertThat(index.search("강남", 2, 2)).isEmpty();
+    }
+
+    @Test
+    void noMatchOrBlankKeyword() {
+        assertThat(index.search("부산", 0, 0)).isEmpty();
+        assertThat(index.search("   ", 0, 0)).isEmpty();
+        assertThat(index.search(null, 0, 0)).isEmpty();
+    }
+
+    @Test
+    void autocompletePrefersWholeNamePrefixThenWordPrefix() {
+        assertThat(index.autocomplete("강남", 10)).containsExactly(1, 0, 2);
+        assertThat(index.autocomplete("충전", 10)).containsExactly(3, 2);
+        assertThat(index.autocomplete("강남", 1)).containsExactly(1);
+    }
+
+    @Test
+    void autocompleteIgnoresMiddleOfWord() {
+        // "주차장" 은 "강남역공영주차장" 안에 있지만 단어 시작이 아님
+        assertThat(index.autocomplete("주차", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+import com.ssafy.wtd.backend.dto.station.StationSnapshotRow;
+import com.ssafy.wtd.backend.repository.station.StationQueryRepository;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StationSnapshotServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<StationSnapshotRow> rows = new ArrayList<>();
+
+    private StationSnapshotService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StationQueryRepository repository = mock(StationQueryRepository.class);
+        doAnswer(invocation -> {
+            ResultHandler<StationSnapshotRow> handler = invocation.getArgument(0);
+            for (StationSnapshotRow row : rows) {
+                ResultContext<StationSnapshotRow> context = mock(ResultContext.class);
+                when(context.getResultObject()).thenReturn(row);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(repository).streamAllStationSnapshotRows(any());
+        service = new StationSnapshotService(repository, 8, 1000);
+    }
+
+    @Test
+    void reusesParsedRegionWhenAddressIsUnchanged() {
+        rows.add(row("ST1", "경기도 수원시 영통구 매탄동 1"));
+        rows.add(row("ST2", "경기도 수원시 장안구 정자동 2"));
+        service.rebuild();
+        Object first = parsedAddresses().get("ST1");
+
+        service.rebuild();
+
+        assertThat(parsedAddresses().get("ST1")).isSameAs(first);
+        assertThat(ids(service.current().byRegion("경기", "수원시 영통구"))).containsExactly("ST1");
+    }
+
+    @Test
+    void reparsesMovedStationAndDropsRemovedOne() {
+        rows.add(row("ST1", "경기도 수원시 영통구 매탄동 1"));
+        rows.add(row("ST2", "경기도 수원시 장안구 정자동 2"));
+        service.rebuild();
+        Object before = parsedAddresses().get("ST1");
+
+        rows.clear();
+        rows.add(row("ST1", "경기도 수원시 장안구 조원동 3"));
+        service.rebuild();
+
+        assertThat(parsedAddresses().get("ST1")).isNotSameAs(before);
+        assertThat(parsedAddresses()).containsOnlyKeys("ST1");
+        assertThat(ids(service.current().byRegion("경기도", "수원시 영통구"))).isEmpty();
+        assertThat(ids(service.current().byRegion("경기도", "장안구"))).containsExactly("ST1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> parsedAddresses() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(service, "parsedAddresses");
+    }
+
+    private static List<String> ids(List<StationMarkerDto> markers) {
+        return markers.stream().map(StationMarkerDto::getStationId).toList();
+    }
+
+    private StationSnapshotRow row(String stationId, String address) {
+        return objectMapper.convertValue(Map.of(
+                "stationId", stationId,
+                "stationName", "충전소 " + stationId,
+                "address", address,
+                "lat", 37.27,
+                "lng", 127.04,
+                "availableCount", 1,
+                "totalCount", 2), StationSnapshotRow.class);
+    }
+}
@@ -0,0 +1,211 @@
+package com.ssafy.wtd.backend.service.station;
+
+import com.ssafy.wtd.backend.dto.station.StationMarkerDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StationTileEncoderTest {
+
+    @Test
+    void encodesLayerHeaderAndKeys() {
+        Layer layer = decode(StationTileEncoder.encode(List.of(marker("S1", 0, 0, "GREEN", 3, 5)), 0, 0, 0));
+
+        assertThat(layer.version).isEqualTo(2L);
+        assertThat(layer.name).isEqualTo(StationTileEncoder.LAYER_NAME);
+        assertThat(layer.extent).isEqualTo((long) StationTileEncoder.EXTENT);
+        assertThat(layer.keys).containsExactly("stationId", "stationName", "availableCount", "totalCount", "markerColor");
+    }
+
+    @Test
+    void pointGeometryAndAttributesRoundTrip() {
+        // z0 타일의 중심 = (lng 0, lat 0)
+        Layer layer = decode(StationTileEncoder.encode(List.of(marker("S1", 0, 0, "GREEN", 3, 5)), 0, 0, 0));
+
+        assertThat(layer.features).hasSize(1);
+        Feature feature = layer.features.get(0);
+        assertThat(feature.type).isEqualTo(1L);
+        assertThat(feature.geometry).containsExactly(9L, (long) zigzag(2048), (long) zigzag(2048));
+        assertThat(layer.attribute(feature, "stationId")).isEqualTo("S1");
+        assertThat(layer.attribute(feature, "stationName")).isEqualTo("충전소 S1");
+        assertThat(layer.attribute(feature, "availableCount")).isEqualTo(3L);
+        assertThat(layer.attribute(feature, "totalCount")).isEqualTo(5L);
+        assertThat(layer.attribute(feature, "markerColor")).isEqualTo("GREEN");
+    }
+
+    @Test
+    void pixelCoordinatesAreRelativeToTile() {
+        // z1 의 (1, 0) 타일 = 동경 0~180, 북위 0~85 → 동경 90 / 적도는 타일 가로 중앙, 아래 끝
+        Layer layer = decode(StationTileEncoder.encode(List.of(marker("S1", 0, 90, "BLUE", 0, 1)), 1, 1, 0));
+
+        assertThat(layer.features.get(0).geometry).containsExactly(9L, (long) zigzag(2048), (long) zigzag(4096));
+    }
+
+    @Test
+    void markersOutsideTileEdgeUseNegativeZigzag() {
+        Layer layer = decode(StationTileEncoder.encode(List.of(marker("S1", 0, -1, "GRAY", 0, 1)), 1, 1, 0));
+
+        long px = layer.features.get(0).geometry.get(1);
+        assertThat(unzigzag(px) < 0).isTrue();
+    }
+
+    @Test
+    void valuesAreSharedAcrossFeatures() {
+        Layer layer = decode(StationTileEncoder.encode(List.of(
+                marker("S1", 37.5, 127.0, "GREEN", 1, 2),
+                marker("S2", 37.6, 127.1, "GREEN", 1, 2)), 0, 0, 0));
+
+        // S1, 충전소 S1, 1, 2, GREEN, S2, 충전소 S2
+        assertThat(layer.values).hasSize(7);
+        assertThat(layer.attribute(layer.features.get(1), "markerColor")).isEqualTo("GREEN");
+        assertThat(layer.attribute(layer.features.get(1), "stationId")).isEqualTo("S2");
+    }
+
+    @Test
+    void emptyTileStillHasLayer() {
+        Layer layer = decode(StationTileEncoder.encode(List.of(), 5, 3, 7));
+
+        assertThat(layer.name).isEqualTo(StationTileEncoder.LAYER_NAME);
+        assertThat(layer.features).isEmpty();
+    }
+
+    private static StationMarkerDto marker(String id, double lat, double lng, String color, int available, int total) {
+        return new StationMarkerDto(id, "충전소 " + id, lat, lng, available, total, color);
+    }
+
+    private static int zigzag(int n) {
+        return (n << 1) ^ (n >> 31);
+    }
+
+    private static long unzigzag(long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    // ---- 검증용 최소 protobuf reader (MVT 에서 쓰는 필드만) ----
+
+    private static Layer decode(byte[] tile) {
+        Reader reader = new Reader(tile);
+        Layer layer = null;
+        while (reader.hasMore()) {
+            long tag = reader.varint();
+            assertThat(tag).isEqualTo((3L << 3) | 2);   // Tile.layers
+            layer = decodeLayer(reader.bytes());
+        }
+        assertThat(layer).isNotNull();
+        return layer;
+    }
+
+    private static Layer decodeLayer(byte[] data) {
+        Layer layer = new Layer();
+        Reader reader = new Reader(data);
+        while (reader.hasMore()) {
+            long tag = reader.varint();
+            switch ((int) (tag >>> 3)) {
+                case 15 -> layer.version = reader.varint();
+                case 1 -> layer.name = new String(reader.bytes(), StandardCharsets.UTF_8);
+                case 2 -> layer.features.add(decodeFeature(reader.bytes()));
+                case 3 -> layer.keys.add(new String(reader.bytes(), StandardCharsets.UTF_8));
+                case 4 -> layer.values.add(decodeValue(reader.bytes()));
+                case 5 -> layer.extent = reader.varint();
+                default -> throw new AssertionError("unexpected layer field " + (tag >>> 3));
+            }
+        }
+        return layer;
+    }
+
+    private static Feature decodeFeature(byte[] data) {
+        Feature feature = new Feature();
+        Reader reader = new Reader(data);
+        while (reader.hasMore()) {
+            long tag = reader.varint();
+            switch ((int) (tag >>> 3)) {
+                case 2 -> feature.tags = packed(reader.bytes());
+                case 3 -> feature.type = reader.varint();
+                case 4 -> feature.geometry = packed(reader.bytes());
+                default -> throw new AssertionError("unexpected feature field " + (tag >>> 3));
+            }
+        }
+        return feature;
+    }
+
+    private static Object decodeValue(byte[] data) {
+        Reader reader = new Reader(data);
+        long tag = reader.varint();
+        return switch ((int) (tag >>> 3)) {
+            case 1 -> new String(reader.bytes(), StandardCharsets.UTF_8);
+            case 5 -> reader.varint();
+            default -> throw new AssertionError("unexpected value field " + (tag >>> 3));
+        };
+    }
+
+    private static List<Long> packed(byte[] data) {
+        Reader reader = new Reader(data);
+        List<Long> values = new ArrayList<>();
+        while (reader.hasMore()) {
+            values.add(reader.varint());
+        }
+        return values;
+    }
+
+    private static final class Layer {
+        long version;
+        String name;
+        long extent;
+        final List<String> keys = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        final List<Feature> features = new ArrayList<>();
+
+        Object attribute(Feature feature, String key) {
+            for (int i = 0; i < feature.tags.size(); i += 2) {
+                if (keys.get(feature.tags.get(i).intValue()).equals(key)) {
+                    return values.get(feature.tags.get(i + 1).intValue());
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Feature {
+        long type;
+        List<Long> tags = List.of();
+        List<Long> geometry = List.of();
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        boolean hasMore() {
+            return pos < data.length;
+        }
+
+        long varint() {
+            long result = 0;
+            int shift = 0;
+            while (true) {
+                byte b = data[pos++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+                shift += 7;
+            }
+        }
+
+        byte[] bytes() {
+            int length = (int) varint();
+            byte[] out = new byte[length];
+            System.arraycopy(data, pos, out, 0, length);
+            pos += length;
+            return out;
+        }
+    }
+}